@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+# Compares startup time and resident memory of the plain JVM fat jar, the AOT + CDS build
+# and the native image. Each variant is started RUNS times against a local PostgreSQL.
+#
+# Build the variants first (each build overwrites target/, so copy the artifacts aside):
+#   mvn -DskipTests package                               -> JVM_JAR
+#   mvn -DskipTests -Pcds package                         -> CDS_JAR + CDS_ARCHIVE
+#   mvn -DskipTests -Pnative native:compile               -> NATIVE_BIN
+#
+# Usage: JVM_JAR=... CDS_JAR=... CDS_ARCHIVE=... NATIVE_BIN=... scripts/startup-benchmark.sh
+# Variants whose artifact is not set are skipped.
+
+set -euo pipefail
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+export SPRING_DATASOURCE_URL=${SPRING_DATASOURCE_URL:-jdbc:postgresql://localhost:5432/user-management}
+export SPRING_DATASOURCE_USERNAME=${SPRING_DATASOURCE_USERNAME:-postgres}
+export SPRING_DATASOURCE_PASSWORD=${SPRING_DATASOURCE_PASSWORD:-1234}
+
+# Starts the command, waits for the Spring Boot "Started ... in N seconds" line,
+# samples RSS after a first request has been served and prints "<seconds> <rss_kb>".
+measure() {
+    local log
+    log=$(mktemp)
+    "$@" --server.port="$PORT" --spring.jpa.show-sql=false >"$log" 2>&1 &
+    local pid=$!
+
+    local started=""
+    for _ in $(seq 1 600); do
+        started=$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$log" | grep -oE '[0-9.]+ seconds' | cut -d' ' -f1 || true)
+        [ -n "$started" ] && break
+        if ! kill -0 "$pid" 2>/dev/null; then
+            cat "$log" >&2
+            return 1
+        fi
+        sleep 0.1
+    done
+
+    curl -s -o /dev/null "http://localhost:$PORT/users/1" || true
+    local rss
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+    echo "$started $rss"
+}
+
+run_variant() {
+    local name=$1
+    shift
+    for _ in $(seq 1 "$RUNS"); do
+        measure "$@"
+    done | awk -v name="$name" '{ time += $1; rss += $2 }
+        END { printf "%-8s startup %6.3f s   rss %7d KB\n", name, time / NR, rss / NR }'
+}
+
+[ -n "${JVM_JAR:-}" ] && run_variant jvm java -jar "$JVM_JAR"
+[ -n "${CDS_JAR:-}" ] && run_variant aot+cds java -XX:SharedArchiveFile="${CDS_ARCHIVE:?CDS_ARCHIVE is required}" \
+    -Dspring.aot.enabled=true -jar "$CDS_JAR"
+[ -n "${NATIVE_BIN:-}" ] && run_variant native "$NATIVE_BIN"
+exit 0
@@ -2,8 +2,10 @@ package ua.mykola.UserAccountsManagementSystem;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class UserAccountsManagementSystemApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,58 @@
+package ua.mykola.UserAccountsManagementSystem.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Process-local stand-in for a shared cache, for single-instance runs and tests. Every tenant gets
+ * its own LRU of {@code maxSize} entries, for at most {@code maxTenants} tenants at a time.
+ */
+@Component
+@ConditionalOnProperty(name = "users.cache.shared.backend", havingValue = "in-memory", matchIfMissing = true)
+public class InMemorySharedCacheBackend implements SharedCacheBackend {
+    private final LocalCache<String, LocalCache<Long, UserDto>> caches;
+    private final int maxSize;
+    private final Duration ttl;
+
+    public InMemorySharedCacheBackend(@Value("${users.cache.shared.max-size-per-tenant:10000}") int maxSize,
+                                      @Value("${users.cache.shared.ttl:PT30M}") Duration ttl,
+                                      @Value("${users.cache.shared.max-tenants:20}") int maxTenants) {
+        this.caches = new LocalCache<>(maxTenants, ttl);
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<UserDto> get(String tenant, long id) {
+        return cacheOf(tenant).get(id);
+    }
+
+    @Override
+    public void put(String tenant, long id, UserDto userDto) {
+        cacheOf(tenant).put(id, userDto);
+    }
+
+    @Override
+    public void evict(String tenant, long id) {
+        caches.get(tenant).ifPresent(cache -> cache.evict(id));
+    }
+
+    @Override
+    public void clear(String tenant) {
+        caches.evict(tenant);
+    }
+
+    @Override
+    public void clearAll() {
+        caches.clear();
+    }
+
+    private LocalCache<Long, UserDto> cacheOf(String tenant) {
+        return caches.getOrCreate(tenant, ignored -> new LocalCache<>(maxSize, ttl));
+    }
+}
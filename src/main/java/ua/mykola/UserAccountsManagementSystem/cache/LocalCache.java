@@ -0,0 +1,70 @@
+package ua.mykola.UserAccountsManagementSystem.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Size-bounded LRU map whose entries expire after a fixed time to live.
+ */
+public class LocalCache<K, V> {
+    private final Map<K, Entry<V>> entries;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    public LocalCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    LocalCache(int maxSize, Duration ttl, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    /**
+     * Returns the live value for {@code key}, creating it if absent. Unlike {@link #put}, every call
+     * restarts the entry's time to live, so it expires only after {@code ttl} without access.
+     */
+    public synchronized V getOrCreate(K key, Function<? super K, ? extends V> factory) {
+        Entry<V> entry = entries.get(key);
+        V value = entry == null || entry.expiresAt() <= clock.millis() ? factory.apply(key) : entry.value();
+        entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+    }
+
+    public synchronized void evict(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
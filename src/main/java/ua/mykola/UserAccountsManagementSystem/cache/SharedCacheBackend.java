@@ -0,0 +1,22 @@
+package ua.mykola.UserAccountsManagementSystem.cache;
+
+import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
+
+import java.util.Optional;
+
+/**
+ * Second cache tier shared by all instances. Selected with {@code users.cache.shared.backend}.
+ * Entries are namespaced by tenant.
+ */
+public interface SharedCacheBackend {
+
+    Optional<UserDto> get(String tenant, long id);
+
+    void put(String tenant, long id, UserDto userDto);
+
+    void evict(String tenant, long id);
+
+    void clear(String tenant);
+
+    void clearAll();
+}
@@ -0,0 +1,153 @@
+package ua.mykola.UserAccountsManagementSystem.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.mykola.UserAccountsManagementSystem.cache.invalidation.InvalidationMessage;
+import ua.mykola.UserAccountsManagementSystem.cache.invalidation.InvalidationTransport;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Two-tier cache of users by tenant and id: a per-instance near cache in front of a {@link SharedCacheBackend}.
+ * Writers call {@link #invalidate(String, long)}. It evicts both local tiers and broadcasts the id,
+ * so every other instance drops its near-cache copy as well. Inside a transaction this happens
+ * after commit; evicting earlier would let a concurrent read cache the old row again.
+ * <p>
+ * Every tenant has its own near cache of {@code users.cache.near.max-size-per-tenant} entries, so a tenant
+ * scanning many users cannot evict the working set of the others. Near caches of at most
+ * {@code users.cache.near.max-tenants} tenants are kept, which bounds the tier at the product of both.
+ * <p>
+ * A reader that loads a user from the database caches it with {@link #putIfUnchanged}, passing the
+ * {@link #generation} it read before the query. Every invalidation bumps the generation of its users, so a row
+ * read before an invalidation is not cached after it. Generations are kept in a fixed number of stripes shared
+ * by many ids; an unrelated invalidation can only make a reader skip caching.
+ */
+@Component
+public class UserCache {
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final LocalCache<String, LocalCache<Long, UserDto>> nearCaches;
+    private final int nearMaxSize;
+    private final Duration nearTtl;
+    private final SharedCacheBackend sharedCache;
+    private final InvalidationTransport invalidationTransport;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong allGeneration = new AtomicLong();
+
+    public UserCache(SharedCacheBackend sharedCache,
+                     InvalidationTransport invalidationTransport,
+                     @Value("${users.cache.near.max-size-per-tenant:1000}") int nearMaxSize,
+                     @Value("${users.cache.near.ttl:PT5M}") Duration nearTtl,
+                     @Value("${users.cache.near.max-tenants:20}") int nearMaxTenants) {
+        this.nearCaches = new LocalCache<>(nearMaxTenants, nearTtl);
+        this.nearMaxSize = nearMaxSize;
+        this.nearTtl = nearTtl;
+        this.sharedCache = sharedCache;
+        this.invalidationTransport = invalidationTransport;
+        invalidationTransport.subscribe(this::onInvalidation);
+    }
+
+    public Optional<UserDto> get(String tenant, long id) {
+        LocalCache<Long, UserDto> nearCache = nearCacheOf(tenant);
+        Optional<UserDto> nearHit = nearCache.get(id);
+        if (nearHit.isPresent()) {
+            return nearHit;
+        }
+        Optional<UserDto> sharedHit = sharedCache.get(tenant, id);
+        sharedHit.ifPresent(userDto -> nearCache.put(id, userDto));
+        return sharedHit;
+    }
+
+    public void put(String tenant, long id, UserDto userDto) {
+        sharedCache.put(tenant, id, userDto);
+        nearCacheOf(tenant).put(id, userDto);
+    }
+
+    /**
+     * Caches {@code userDto} unless the user was invalidated since {@code generation} was read. The check runs
+     * after the put, so an invalidation racing with it either sees the entry and evicts it or is seen here.
+     */
+    public void putIfUnchanged(String tenant, long id, UserDto userDto, long generation) {
+        put(tenant, id, userDto);
+        if (generation(tenant, id) != generation) {
+            evictLocally(tenant, id);
+        }
+    }
+
+    /**
+     * Changes whenever {@code id} of {@code tenant} is invalidated, on this instance or through the transport.
+     */
+    public long generation(String tenant, long id) {
+        // Both counters only grow, so their sum changes whenever either does.
+        return generations.get(stripeOf(tenant, id)) + allGeneration.get();
+    }
+
+    public void invalidate(String tenant, long id) {
+        afterCommit(() -> {
+            generations.incrementAndGet(stripeOf(tenant, id));
+            evictLocally(tenant, id);
+            invalidationTransport.publish(InvalidationMessage.of(tenant, id));
+        });
+    }
+
+    public void invalidateAll(String tenant) {
+        afterCommit(() -> {
+            allGeneration.incrementAndGet();
+            nearCaches.evict(tenant);
+            sharedCache.clear(tenant);
+            invalidationTransport.publish(InvalidationMessage.allOf(tenant));
+        });
+    }
+
+    private void evictLocally(String tenant, long id) {
+        nearCaches.get(tenant).ifPresent(nearCache -> nearCache.evict(id));
+        sharedCache.evict(tenant, id);
+    }
+
+    private static int stripeOf(String tenant, long id) {
+        int hash = 31 * tenant.hashCode() + Long.hashCode(id);
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private LocalCache<Long, UserDto> nearCacheOf(String tenant) {
+        return nearCaches.getOrCreate(tenant, ignored -> new LocalCache<>(nearMaxSize, nearTtl));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Evicts the shared tier as well: with a per-process backend such as {@link InMemorySharedCacheBackend}
+     * the next near-cache miss would otherwise be refilled from this instance's stale copy.
+     */
+    private void onInvalidation(InvalidationMessage message) {
+        if (message.isAll()) {
+            allGeneration.incrementAndGet();
+            nearCaches.clear();
+            sharedCache.clearAll();
+        } else if (message.isAllOfTenant()) {
+            allGeneration.incrementAndGet();
+            nearCaches.evict(message.tenant());
+            sharedCache.clear(message.tenant());
+        } else {
+            generations.incrementAndGet(stripeOf(message.tenant(), message.id()));
+            evictLocally(message.tenant(), message.id());
+        }
+    }
+}
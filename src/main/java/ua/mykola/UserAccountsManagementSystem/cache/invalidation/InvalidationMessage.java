@@ -0,0 +1,47 @@
+package ua.mykola.UserAccountsManagementSystem.cache.invalidation;
+
+/**
+ * Invalidates a single user of a tenant, every cached user of the tenant when {@code id} is null,
+ * or every cached user of every tenant when {@code tenant} is null as well.
+ */
+public record InvalidationMessage(String tenant, Long id) {
+    private static final String ALL = "*";
+    private static final char SEPARATOR = ':';
+
+    public static InvalidationMessage of(String tenant, long id) {
+        return new InvalidationMessage(tenant, id);
+    }
+
+    public static InvalidationMessage allOf(String tenant) {
+        return new InvalidationMessage(tenant, null);
+    }
+
+    public static InvalidationMessage all() {
+        return new InvalidationMessage(null, null);
+    }
+
+    public boolean isAll() {
+        return tenant == null;
+    }
+
+    public boolean isAllOfTenant() {
+        return tenant != null && id == null;
+    }
+
+    public String encode() {
+        if (isAll()) {
+            return ALL;
+        }
+        return tenant + SEPARATOR + (id == null ? ALL : id.toString());
+    }
+
+    public static InvalidationMessage decode(String payload) {
+        if (ALL.equals(payload)) {
+            return all();
+        }
+        int separator = payload.lastIndexOf(SEPARATOR);
+        String tenant = payload.substring(0, separator);
+        String id = payload.substring(separator + 1);
+        return ALL.equals(id) ? allOf(tenant) : of(tenant, Long.parseLong(id));
+    }
+}
@@ -0,0 +1,14 @@
+package ua.mykola.UserAccountsManagementSystem.cache.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations to every instance, including the sender.
+ * Selected with {@code users.cache.invalidation.transport}.
+ */
+public interface InvalidationTransport {
+
+    void publish(InvalidationMessage message);
+
+    void subscribe(Consumer<InvalidationMessage> listener);
+}
@@ -0,0 +1,27 @@
+package ua.mykola.UserAccountsManagementSystem.cache.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers messages synchronously to listeners in the same process.
+ */
+@Component
+@ConditionalOnProperty(name = "users.cache.invalidation.transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+    private final List<Consumer<InvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,111 @@
+package ua.mykola.UserAccountsManagementSystem.cache.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Uses PostgreSQL LISTEN/NOTIFY, so invalidations reach every instance connected to the same
+ * database without extra infrastructure. NOTIFY is transactional: a message published inside a
+ * transaction is delivered only after it commits.
+ * <p>
+ * Listening happens on a dedicated connection outside the pool. Notifications sent while that
+ * connection is down are lost, so every (re)connect invalidates everything.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "users.cache.invalidation.transport", havingValue = "postgres")
+public class PostgresInvalidationTransport implements InvalidationTransport {
+    private static final String CHANNEL = "user_cache_invalidation";
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final List<Consumer<InvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        jdbcTemplate.queryForObject("select pg_notify(?, ?)", Object.class, CHANNEL, message.encode());
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "user-cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        listenerThread.join(POLL_TIMEOUT_MILLIS * 2L);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                dispatch(InvalidationMessage.all());
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(InvalidationMessage.decode(notification.getParameter()));
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                log.warn("Cache invalidation listener lost its connection, reconnecting", e);
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void dispatch(InvalidationMessage message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
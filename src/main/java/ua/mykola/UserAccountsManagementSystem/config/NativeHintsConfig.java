@@ -0,0 +1,27 @@
+package ua.mykola.UserAccountsManagementSystem.config;
+
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import ua.mykola.UserAccountsManagementSystem.entity.User;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserProjection;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.BulkDeleteUserDto;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.UpdateUserDto;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
+import ua.mykola.UserAccountsManagementSystem.rest.response.ErrorMessage;
+
+/**
+ * Reflection hints for a native image. Binding hints cover the constructors and the
+ * Lombok-generated getters/setters that Jackson and Hibernate reach reflectively,
+ * and the {@link UserProjection} constructor called by {@code select new} queries.
+ */
+@Configuration
+@RegisterReflectionForBinding({
+        User.class,
+        UserProjection.class,
+        UserDto.class,
+        UpdateUserDto.class,
+        BulkDeleteUserDto.class,
+        ErrorMessage.class
+})
+public class NativeHintsConfig {
+}
@@ -0,0 +1,67 @@
+package ua.mykola.UserAccountsManagementSystem.entity;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.Period;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Date arithmetic shared by the dto age field and the birthday queries. Month-days are encoded as
+ * {@code month * 100 + day}, the same expression that backs {@code users.birth_month_day}.
+ */
+public final class Birthdays {
+    private static final short LEAP_DAY = encode(MonthDay.of(Month.FEBRUARY, 29));
+
+    private Birthdays() {
+    }
+
+    /**
+     * Completed years at {@code referenceDate}. February 29 birthdays are reached on February 28 in non-leap years.
+     */
+    public static Integer ageAt(LocalDate birthDate, LocalDate referenceDate) {
+        if (birthDate == null) {
+            return null;
+        }
+        LocalDate effectiveDate = isLeapDay(birthDate) && isLeapDayStandIn(referenceDate)
+                ? referenceDate.plusDays(1)
+                : referenceDate;
+        return Period.between(birthDate, effectiveDate).getYears();
+    }
+
+    /**
+     * Latest birth date of someone who has turned {@code age} by {@code date}, by the same February 29 rule.
+     */
+    public static LocalDate latestBirthDateForAge(LocalDate date, int age) {
+        LocalDate birthDate = date.minusYears(age);
+        return isLeapDayStandIn(date) && birthDate.isLeapYear() ? birthDate.plusDays(1) : birthDate;
+    }
+
+    public static short encode(MonthDay monthDay) {
+        return (short) (monthDay.getMonthValue() * 100 + monthDay.getDayOfMonth());
+    }
+
+    /**
+     * Month-days whose birthday falls within {@code [from, to]}. In non-leap years February 29
+     * birthdays are celebrated on February 28.
+     */
+    public static Set<Short> monthDaysBetween(LocalDate from, LocalDate to) {
+        Set<Short> monthDays = new LinkedHashSet<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            monthDays.add(encode(MonthDay.from(date)));
+            if (isLeapDayStandIn(date)) {
+                monthDays.add(LEAP_DAY);
+            }
+        }
+        return monthDays;
+    }
+
+    private static boolean isLeapDay(LocalDate date) {
+        return date.getMonth() == Month.FEBRUARY && date.getDayOfMonth() == 29;
+    }
+
+    private static boolean isLeapDayStandIn(LocalDate date) {
+        return date.getMonth() == Month.FEBRUARY && date.getDayOfMonth() == 28 && !date.isLeapYear();
+    }
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.TenantId;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,14 +16,30 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Data
 @Builder
-@Table(name = "users", uniqueConstraints = {
-        @UniqueConstraint(columnNames = "username")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_tenant_id", columnList = "tenantId, id"),
+        @Index(name = "idx_users_deleted_at", columnList = "deletedAt"),
+        @Index(name = "idx_users_birth_month_day", columnList = "tenantId, birthMonthDay, id")
 })
+@SQLRestriction("deleted_at is null")
 public class User {
+    /**
+     * Drawn from a sequence in blocks of {@code allocationSize} (Hibernate's pooled optimizer), so inserts
+     * need no round trip to learn their key and can be batched.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Owning tenant, set by Hibernate from {@link ua.mykola.UserAccountsManagementSystem.tenant.TenantContext}
+     * on insert. Entity queries only ever see rows of the current tenant.
+     */
+    @TenantId
+    @Column(nullable = false, length = 32)
+    private String tenantId;
+
     private String username;
 
     @Enumerated(EnumType.STRING)
@@ -30,4 +48,19 @@ public class User {
     private LocalDateTime accountCreation;
 
     private LocalDate birthDate;
+
+    /**
+     * {@code month * 100 + day} of {@link #birthDate}, computed by the database so birthday lookups
+     * hit an index instead of evaluating the expression on every row. Read-only and only populated
+     * on entities loaded after the insert; see {@link Birthdays#encode}.
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "smallint generated always as " +
+            "((extract(month from birth_date) * 100 + extract(day from birth_date))::smallint) stored")
+    private Short birthMonthDay;
+
+    /**
+     * Tombstone timestamp. Rows with a non-null value are hidden from every entity read
+     * and are hard-deleted later by {@link ua.mykola.UserAccountsManagementSystem.scheduler.UserPurgeScheduler}.
+     */
+    private LocalDateTime deletedAt;
 }
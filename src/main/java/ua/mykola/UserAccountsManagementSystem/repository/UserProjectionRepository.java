@@ -0,0 +1,19 @@
+package ua.mykola.UserAccountsManagementSystem.repository;
+
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserField;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserProjection;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads that select only the columns backing the requested fields and return unmanaged
+ * {@link UserProjection}s, so no entity snapshot or dirty checking is involved.
+ */
+public interface UserProjectionRepository {
+
+    Optional<UserProjection> findProjectionById(long id, Set<UserField> fields);
+
+    List<UserProjection> findProjections(Set<UserField> fields, int page, int size);
+}
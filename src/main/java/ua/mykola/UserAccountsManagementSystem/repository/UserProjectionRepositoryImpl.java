@@ -0,0 +1,73 @@
+package ua.mykola.UserAccountsManagementSystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import ua.mykola.UserAccountsManagementSystem.entity.Gender;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserField;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserProjection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Builds HQL strings rather than criteria queries: the attributes are sorted so each field
+ * combination always produces the same string, and Hibernate's query plan cache then skips
+ * re-translating it on every request.
+ */
+class UserProjectionRepositoryImpl implements UserProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<UserProjection> findProjectionById(long id, Set<UserField> fields) {
+        Set<String> attributes = attributes(fields);
+        return entityManager.createQuery(select(attributes) + " where u.id = :id", Tuple.class)
+                .setParameter("id", id)
+                .getResultList().stream()
+                .findFirst()
+                .map(tuple -> toProjection(tuple, attributes));
+    }
+
+    @Override
+    public List<UserProjection> findProjections(Set<UserField> fields, int page, int size) {
+        Set<String> attributes = attributes(fields);
+        return entityManager.createQuery(select(attributes) + " order by u.id", Tuple.class)
+                .setFirstResult(Math.toIntExact((long) page * size))
+                .setMaxResults(size)
+                .getResultList().stream()
+                .map(tuple -> toProjection(tuple, attributes))
+                .toList();
+    }
+
+    private static Set<String> attributes(Set<UserField> fields) {
+        return fields.stream()
+                .map(UserField::getAttribute)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static String select(Set<String> attributes) {
+        return attributes.stream()
+                .map(attribute -> "u." + attribute + " as " + attribute)
+                .collect(Collectors.joining(", ", "select ", " from User u"));
+    }
+
+    private static UserProjection toProjection(Tuple tuple, Set<String> attributes) {
+        return new UserProjection(
+                get(tuple, attributes, "id", Long.class),
+                get(tuple, attributes, "username", String.class),
+                get(tuple, attributes, "gender", Gender.class),
+                get(tuple, attributes, "birthDate", LocalDate.class),
+                get(tuple, attributes, "accountCreation", LocalDateTime.class));
+    }
+
+    private static <T> T get(Tuple tuple, Set<String> attributes, String attribute, Class<T> type) {
+        return attributes.contains(attribute) ? tuple.get(attribute, type) : null;
+    }
+}
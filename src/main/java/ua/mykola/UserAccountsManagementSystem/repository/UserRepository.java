@@ -1,11 +1,91 @@
 package ua.mykola.UserAccountsManagementSystem.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ua.mykola.UserAccountsManagementSystem.entity.Gender;
 import ua.mykola.UserAccountsManagementSystem.entity.User;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserProjection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserProjectionRepository {
+
+    /**
+     * Overrides the inherited lookup, which loads by primary key without the tenant restriction
+     * and would expose other tenants' users.
+     */
+    @Override
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findById(@Param("id") Long id);
+
+    /**
+     * Checks live users only, in line with the partial unique index {@code ux_users_tenant_username_live}
+     * created by {@code import.sql}, so a deleted user's username can be reused before the row is purged.
+     * Native queries bypass the tenant restriction, hence the explicit {@code tenantId}.
+     */
+    @Query(value = "select exists(select 1 from users where tenant_id = :tenantId and username = :username"
+            + " and deleted_at is null)",
+            nativeQuery = true)
+    boolean existsByUsername(@Param("tenantId") String tenantId, @Param("username") String username);
+
+    /**
+     * Streams users whose birthday month-day is one of {@code monthDays}, in id order, starting after
+     * {@code afterId}. The optional birth date bounds narrow the result to an age cohort. Rows are fetched
+     * through a cursor, so the stream must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("select new ua.mykola.UserAccountsManagementSystem.repository.projection.UserProjection(" +
+            "u.id, u.username, u.gender, u.birthDate, u.accountCreation) from User u " +
+            "where u.birthMonthDay in :monthDays and u.id > :afterId " +
+            "and (cast(:bornFrom as LocalDate) is null or u.birthDate >= :bornFrom) " +
+            "and (cast(:bornTo as LocalDate) is null or u.birthDate <= :bornTo) " +
+            "order by u.id")
+    Stream<UserProjection> streamByBirthMonthDays(@Param("monthDays") Collection<Short> monthDays,
+                                                  @Param("bornFrom") LocalDate bornFrom,
+                                                  @Param("bornTo") LocalDate bornTo,
+                                                  @Param("afterId") long afterId);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.deletedAt = :deletedAt where u.id in :ids and u.deletedAt is null")
+    int markDeletedByIds(@Param("ids") Collection<Long> ids,
+                         @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.deletedAt = :deletedAt " +
+            "where u.deletedAt is null " +
+            "and (cast(:gender as String) is null or u.gender = :gender) " +
+            "and (cast(:birthDateFrom as LocalDate) is null or u.birthDate >= :birthDateFrom) " +
+            "and (cast(:birthDateTo as LocalDate) is null or u.birthDate <= :birthDateTo) " +
+            "and (cast(:createdBefore as LocalDateTime) is null or u.accountCreation < :createdBefore)")
+    int markDeletedByFilter(@Param("gender") Gender gender,
+                            @Param("birthDateFrom") LocalDate birthDateFrom,
+                            @Param("birthDateTo") LocalDate birthDateTo,
+                            @Param("createdBefore") LocalDateTime createdBefore,
+                            @Param("deletedAt") LocalDateTime deletedAt);
 
-    boolean existsByUsername(String username);
+    /**
+     * Hard-deletes at most {@code batchSize} tombstoned rows of all tenants. {@code skip locked} lets several
+     * instances purge concurrently without waiting on each other's batches.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from users where id in (" +
+            "select id from users where deleted_at < :deletedBefore " +
+            "order by id limit :batchSize for update skip locked)", nativeQuery = true)
+    int purgeDeleted(@Param("deletedBefore") LocalDateTime deletedBefore,
+                     @Param("batchSize") int batchSize);
 }
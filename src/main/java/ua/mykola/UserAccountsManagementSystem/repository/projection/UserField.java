@@ -0,0 +1,57 @@
+package ua.mykola.UserAccountsManagementSystem.repository.projection;
+
+import ua.mykola.UserAccountsManagementSystem.exception.ValidationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * User fields a read can be narrowed to with the {@code fields} query parameter.
+ * Each field names the entity attribute that has to be selected to produce it.
+ */
+public enum UserField {
+    ID("id", "id"),
+    USERNAME("username", "username"),
+    GENDER("gender", "gender"),
+    BIRTH_DATE("birthDate", "birthDate"),
+    ACCOUNT_CREATION("accountCreation", "accountCreation"),
+    AGE("age", "birthDate");
+
+    public static final Set<UserField> ALL = Collections.unmodifiableSet(EnumSet.allOf(UserField.class));
+
+    private final String fieldName;
+    private final String attribute;
+
+    UserField(String fieldName, String attribute) {
+        this.fieldName = fieldName;
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Parses a comma separated list such as {@code id,username,age}; null or blank means all fields.
+     * A list naming no field at all, such as {@code ,}, is rejected.
+     */
+    public static Set<UserField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<UserField> parsed = EnumSet.noneOf(UserField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.fieldName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new ValidationException("Unknown field: " + trimmed)));
+        }
+        if (parsed.isEmpty()) {
+            throw new ValidationException("At least one field must be specified");
+        }
+        return Collections.unmodifiableSet(parsed);
+    }
+}
@@ -0,0 +1,16 @@
+package ua.mykola.UserAccountsManagementSystem.repository.projection;
+
+import ua.mykola.UserAccountsManagementSystem.entity.Gender;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Unmanaged read-only view of a user row. Attributes that were not selected are null.
+ */
+public record UserProjection(Long id,
+                             String username,
+                             Gender gender,
+                             LocalDate birthDate,
+                             LocalDateTime accountCreation) {
+}
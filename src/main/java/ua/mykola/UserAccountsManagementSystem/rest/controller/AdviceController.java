@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import ua.mykola.UserAccountsManagementSystem.exception.DuplicateException;
 import ua.mykola.UserAccountsManagementSystem.exception.NotFoundException;
+import ua.mykola.UserAccountsManagementSystem.exception.TooManyRequestsException;
 import ua.mykola.UserAccountsManagementSystem.exception.ValidationException;
 import ua.mykola.UserAccountsManagementSystem.rest.response.ErrorMessage;
 
@@ -41,4 +42,14 @@ public class AdviceController {
                         .message(ex.getMessage())
                         .build());
     }
+
+    @ExceptionHandler(value = TooManyRequestsException.class)
+    public ResponseEntity<ErrorMessage> tooManyRequestsException(TooManyRequestsException ex) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ErrorMessage.builder()
+                        .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                        .message(ex.getMessage())
+                        .build());
+    }
 }
@@ -2,29 +2,57 @@ package ua.mykola.UserAccountsManagementSystem.rest.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import ua.mykola.UserAccountsManagementSystem.exception.ValidationException;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserField;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.BulkDeleteUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UpdateUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
 import ua.mykola.UserAccountsManagementSystem.service.UserService;
+import ua.mykola.UserAccountsManagementSystem.tenant.BulkOperation;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @RestController
-@RequestMapping("/users")
+@RequestMapping({"/users", "/tenants/{tenant}/users"})
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserDto> getById(@PathVariable long id) {
-        UserDto obtainedUser = userService.getById(id);
+    public ResponseEntity<UserDto> getById(@PathVariable long id,
+                                           @RequestParam(required = false) String fields) {
+        UserDto obtainedUser = userService.getById(id, UserField.parse(fields));
         return ResponseEntity.ok(obtainedUser);
     }
 
+    @GetMapping
+    public ResponseEntity<List<UserDto>> getAll(@RequestParam(defaultValue = "0") int page,
+                                                @RequestParam(defaultValue = "20") int size,
+                                                @RequestParam(required = false) String fields) {
+        List<UserDto> obtainedUsers = userService.getAll(page, size, UserField.parse(fields));
+        return ResponseEntity.ok(obtainedUsers);
+    }
+
+    @BulkOperation
+    @GetMapping("/birthdays")
+    public ResponseEntity<List<UserDto>> getBirthdays(@RequestParam(required = false)
+                                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                      @RequestParam(defaultValue = "1") int days,
+                                                      @RequestParam(required = false) Integer age,
+                                                      @RequestParam(defaultValue = "0") long afterId,
+                                                      @RequestParam(defaultValue = "100") int size,
+                                                      @RequestParam(required = false) String fields) {
+        List<UserDto> obtainedUsers = userService.getBirthdays(from, days, age, afterId, size, UserField.parse(fields));
+        return ResponseEntity.ok(obtainedUsers);
+    }
+
     @PostMapping
     public ResponseEntity<UserDto> create(@Valid @RequestBody UserDto userDto,
                                           BindingResult bindingResult) {
@@ -61,4 +89,11 @@ public class UserController {
         return ResponseEntity.ok("User was deleted");
     }
 
+    @BulkOperation
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<String> deleteAll(@RequestBody BulkDeleteUserDto bulkDeleteUserDto) {
+        int deletedCount = userService.deleteAll(bulkDeleteUserDto);
+        return ResponseEntity.ok(deletedCount + " users were deleted");
+    }
+
 }
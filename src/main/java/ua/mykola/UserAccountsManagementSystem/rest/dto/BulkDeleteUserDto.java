@@ -0,0 +1,36 @@
+package ua.mykola.UserAccountsManagementSystem.rest.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Selects users to delete either by explicit ids or by a filter.
+ * Filter fields are combined with AND; null fields are ignored.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class BulkDeleteUserDto {
+    private List<Long> ids;
+
+    private String gender;
+
+    private LocalDate birthDateFrom;
+
+    private LocalDate birthDateTo;
+
+    private LocalDateTime createdBefore;
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return gender != null || birthDateFrom != null || birthDateTo != null || createdBefore != null;
+    }
+}
@@ -1,21 +1,26 @@
 package ua.mykola.UserAccountsManagementSystem.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
+import ua.mykola.UserAccountsManagementSystem.entity.Birthdays;
 import ua.mykola.UserAccountsManagementSystem.entity.Gender;
 import ua.mykola.UserAccountsManagementSystem.entity.User;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserField;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserProjection;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.Period;
+import java.util.Set;
 
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class UserDto {
     private Long id;
 
@@ -45,13 +50,47 @@ public class UserDto {
     }
 
     public static UserDto fromEntity(User user) {
+        return fromEntity(user, LocalDate.now());
+    }
+
+    public static UserDto fromEntity(User user, LocalDate referenceDate) {
         return UserDto.builder()
                 .id(user.getId())
                 .username(user.getUsername())
-                .age(Period.between(user.getBirthDate(), LocalDate.now()).getYears())
+                .age(Birthdays.ageAt(user.getBirthDate(), referenceDate))
                 .accountCreation(user.getAccountCreation())
                 .birthDate(user.getBirthDate())
                 .gender(user.getGender().name())
                 .build();
     }
+
+    /**
+     * Builds a dto holding only the requested fields, with age computed against a reference date
+     * that the caller resolves once per request.
+     */
+    public static UserDto fromProjection(UserProjection projection, Set<UserField> fields, LocalDate referenceDate) {
+        return UserDto.builder()
+                .id(fields.contains(UserField.ID) ? projection.id() : null)
+                .username(fields.contains(UserField.USERNAME) ? projection.username() : null)
+                .gender(fields.contains(UserField.GENDER) && projection.gender() != null
+                        ? projection.gender().name() : null)
+                .birthDate(fields.contains(UserField.BIRTH_DATE) ? projection.birthDate() : null)
+                .accountCreation(fields.contains(UserField.ACCOUNT_CREATION) ? projection.accountCreation() : null)
+                .age(fields.contains(UserField.AGE) ? Birthdays.ageAt(projection.birthDate(), referenceDate) : null)
+                .build();
+    }
+
+    /**
+     * Narrows a full dto, e.g. a cached one, to the requested fields and refreshes its age.
+     */
+    public UserDto withFields(Set<UserField> fields, LocalDate referenceDate) {
+        return UserDto.builder()
+                .id(fields.contains(UserField.ID) ? id : null)
+                .username(fields.contains(UserField.USERNAME) ? username : null)
+                .gender(fields.contains(UserField.GENDER) ? gender : null)
+                .birthDate(fields.contains(UserField.BIRTH_DATE) ? birthDate : null)
+                .accountCreation(fields.contains(UserField.ACCOUNT_CREATION) ? accountCreation : null)
+                .age(fields.contains(UserField.AGE) ? Birthdays.ageAt(birthDate, referenceDate) : null)
+                .build();
+    }
 }
@@ -0,0 +1,47 @@
+package ua.mykola.UserAccountsManagementSystem.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ua.mykola.UserAccountsManagementSystem.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Hard-deletes tombstoned users off-peak in bounded batches, each in its own short transaction,
+ * so row locks and index maintenance never pile up the way they would with one large delete.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class UserPurgeScheduler {
+    private final UserRepository userRepository;
+
+    @Value("${users.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${users.purge.max-batches:1000}")
+    private int maxBatches;
+
+    @Value("${users.purge.retention:PT1H}")
+    private Duration retention;
+
+    @Scheduled(cron = "${users.purge.cron:0 0 3 * * *}")
+    public void purge() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = userRepository.purgeDeleted(deletedBefore, batchSize);
+            purged += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        log.info("Purged {} deleted users", purged);
+    }
+}
@@ -1,15 +1,31 @@
 package ua.mykola.UserAccountsManagementSystem.service;
 
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserField;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.BulkDeleteUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UpdateUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
 public interface UserService {
 
     UserDto save(UserDto userDto);
 
-    UserDto getById(Long id);
+    UserDto getById(long id, Set<UserField> fields);
+
+    List<UserDto> getAll(int page, int size, Set<UserField> fields);
+
+    /**
+     * Users whose birthday falls within {@code days} days starting at {@code from} (today when null), in id
+     * order after {@code afterId}. With {@code age} set, only users turning that age in the window are returned.
+     */
+    List<UserDto> getBirthdays(LocalDate from, int days, Integer age, long afterId, int size, Set<UserField> fields);
 
     UserDto update(long id, UpdateUserDto updateUserDto);
 
     void delete(long id);
+
+    int deleteAll(BulkDeleteUserDto bulkDeleteUserDto);
 }
@@ -2,42 +2,119 @@ package ua.mykola.UserAccountsManagementSystem.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ua.mykola.UserAccountsManagementSystem.cache.UserCache;
+import ua.mykola.UserAccountsManagementSystem.entity.Birthdays;
 import ua.mykola.UserAccountsManagementSystem.entity.Gender;
 import ua.mykola.UserAccountsManagementSystem.entity.User;
 import ua.mykola.UserAccountsManagementSystem.exception.DuplicateException;
 import ua.mykola.UserAccountsManagementSystem.exception.NotFoundException;
 import ua.mykola.UserAccountsManagementSystem.exception.ValidationException;
 import ua.mykola.UserAccountsManagementSystem.repository.UserRepository;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserField;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserProjection;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.BulkDeleteUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UpdateUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
+import ua.mykola.UserAccountsManagementSystem.tenant.TenantContext;
+import ua.mykola.UserAccountsManagementSystem.tracing.Span;
+import ua.mykola.UserAccountsManagementSystem.tracing.Tracing;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
+@Transactional
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService{
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BIRTHDAY_WINDOW_DAYS = 31;
+    private static final int MAX_BULK_DELETE_IDS = 10_000;
+
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDto save(UserDto userDto) {
         validateGender(userDto.getGender());
 
-        if (userRepository.existsByUsername(userDto.getUsername())) {
+        if (userRepository.existsByUsername(TenantContext.current(), userDto.getUsername())) {
             throw new DuplicateException("Username exists");
         }
 
         User user = userDto.toEntity();
+        // A client-supplied id would turn save into a merge, which loads by primary key across tenants.
+        user.setId(null);
         user.setAccountCreation(LocalDateTime.now());
         userRepository.save(user);
-        return UserDto.fromEntity(user);
+        return Tracing.inSpan("UserDto.fromEntity", () -> UserDto.fromEntity(user));
     }
 
     @Override
-    public UserDto getById(Long id) {
-        User foundUser = userRepository.findById(id)
+    @Transactional(readOnly = true)
+    public UserDto getById(long id, Set<UserField> fields) {
+        LocalDate today = LocalDate.now();
+        String tenant = TenantContext.current();
+        Optional<UserDto> cachedUser = userCache.get(tenant, id);
+        if (cachedUser.isPresent()) {
+            return cachedUser.get().withFields(fields, today);
+        }
+
+        long generation = userCache.generation(tenant, id);
+        UserDto foundUser = userRepository.findProjectionById(id, fields)
+                .map(projection -> Tracing.inSpan("UserDto.fromProjection",
+                        () -> UserDto.fromProjection(projection, fields, today)))
                 .orElseThrow(() -> new NotFoundException("User by id:" + id + " was not found"));
-        return UserDto.fromEntity(foundUser);
+        if (fields.equals(UserField.ALL)) {
+            userCache.putIfUnchanged(tenant, id, foundUser, generation);
+        }
+        return foundUser;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> getAll(int page, int size, Set<UserField> fields) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page must be non-negative and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        if ((long) page * size > Integer.MAX_VALUE) {
+            throw new ValidationException("Page is too large");
+        }
+        LocalDate today = LocalDate.now();
+        return userRepository.findProjections(fields, page, size).stream()
+                .map(projection -> UserDto.fromProjection(projection, fields, today))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> getBirthdays(LocalDate from, int days, Integer age, long afterId, int size,
+                                      Set<UserField> fields) {
+        if (days < 1 || days > MAX_BIRTHDAY_WINDOW_DAYS) {
+            throw new ValidationException("Days must be between 1 and " + MAX_BIRTHDAY_WINDOW_DAYS);
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (age != null && age < 0) {
+            throw new ValidationException("Age must be non-negative");
+        }
+        LocalDate windowStart = from == null ? LocalDate.now() : from;
+        LocalDate windowEnd = windowStart.plusDays(days - 1);
+        LocalDate bornFrom = age == null ? null : windowStart.minusYears(age);
+        LocalDate bornTo = age == null ? null : Birthdays.latestBirthDateForAge(windowEnd, age);
+
+        try (Stream<UserProjection> users = userRepository.streamByBirthMonthDays(
+                Birthdays.monthDaysBetween(windowStart, windowEnd), bornFrom, bornTo, afterId)) {
+            return users.limit(size)
+                    .map(projection -> UserDto.fromProjection(projection, fields, windowEnd))
+                    .toList();
+        }
     }
 
     @Override
@@ -55,8 +132,9 @@ public class UserServiceImpl implements UserService{
             foundUser.setGender(Gender.valueOf(updateUserDto.getGender()));
         }
         userRepository.save(foundUser);
+        userCache.invalidate(TenantContext.current(), id);
 
-        return UserDto.fromEntity(foundUser);
+        return Tracing.inSpan("UserDto.fromEntity", () -> UserDto.fromEntity(foundUser));
     }
 
     @Override
@@ -64,13 +142,46 @@ public class UserServiceImpl implements UserService{
         if (!userRepository.existsById(id)) {
             throw new NotFoundException("User by id:" + id + " was not found");
         }
-        userRepository.deleteById(id);
+        userRepository.markDeletedByIds(List.of(id), LocalDateTime.now());
+        userCache.invalidate(TenantContext.current(), id);
+    }
+
+    @Override
+    public int deleteAll(BulkDeleteUserDto bulkDeleteUserDto) {
+        if (bulkDeleteUserDto.hasIds() == bulkDeleteUserDto.hasFilter()) {
+            throw new ValidationException("Either ids or filter must be specified");
+        }
+        if (bulkDeleteUserDto.hasIds() && bulkDeleteUserDto.getIds().size() > MAX_BULK_DELETE_IDS) {
+            throw new ValidationException("At most " + MAX_BULK_DELETE_IDS + " ids can be deleted at once");
+        }
+        LocalDateTime deletedAt = LocalDateTime.now();
+        if (bulkDeleteUserDto.hasIds()) {
+            int deletedCount = userRepository.markDeletedByIds(bulkDeleteUserDto.getIds(), deletedAt);
+            // One message for the whole tenant instead of a notification per id.
+            userCache.invalidateAll(TenantContext.current());
+            return deletedCount;
+        }
+
+        Gender gender = null;
+        if (bulkDeleteUserDto.getGender() != null) {
+            validateGender(bulkDeleteUserDto.getGender());
+            gender = Gender.valueOf(bulkDeleteUserDto.getGender());
+        }
+        int deletedCount = userRepository.markDeletedByFilter(gender,
+                bulkDeleteUserDto.getBirthDateFrom(),
+                bulkDeleteUserDto.getBirthDateTo(),
+                bulkDeleteUserDto.getCreatedBefore(),
+                deletedAt);
+        userCache.invalidateAll(TenantContext.current());
+        return deletedCount;
     }
 
     private void validateGender(String gender) {
-        if (Arrays.stream(Gender.values())
-                .noneMatch(gen -> gender.equals(gen.name()))) {
-            throw new ValidationException("Such gender doesn't exist");
+        try (Span ignored = Tracing.startSpan("validateGender")) {
+            if (Arrays.stream(Gender.values())
+                    .noneMatch(gen -> gender.equals(gen.name()))) {
+                throw new ValidationException("Such gender doesn't exist");
+            }
         }
     }
 }
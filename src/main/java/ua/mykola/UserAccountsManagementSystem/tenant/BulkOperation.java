@@ -0,0 +1,15 @@
+package ua.mykola.UserAccountsManagementSystem.tenant;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler that can touch many rows. It is charged {@code users.tenants.rate.bulk-cost} tokens of the
+ * tenant's rate budget instead of one.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BulkOperation {
+}
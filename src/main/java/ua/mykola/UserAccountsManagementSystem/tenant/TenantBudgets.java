@@ -0,0 +1,151 @@
+package ua.mykola.UserAccountsManagementSystem.tenant;
+
+import ua.mykola.UserAccountsManagementSystem.exception.TooManyRequestsException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tenant admission control, so one tenant cannot take the capacity every tenant shares.
+ * <ul>
+ *     <li>Rate budget: a token bucket refilled at {@code requestsPerSecond} holding up to {@code burst} tokens.
+ *     A request costs one token, a {@link BulkOperation} more. A non-positive rate disables the budget.</li>
+ *     <li>Connection quota: at most {@code maxConnections} requests of a tenant run at once. With open-in-view
+ *     off a request holds at most one pooled connection, so this bounds the tenant's share of the pool.
+ *     A request waits up to {@code connectionWait} for a slot.</li>
+ * </ul>
+ * A tenant over either limit is rejected with {@link TooManyRequestsException} instead of queueing for
+ * connections.
+ * <p>
+ * At most {@code maxTenants} budgets are tracked. Only a budget without open leases and with a full bucket is
+ * dropped to make room, as recreating it later restores exactly that state. When no budget can be dropped,
+ * requests of untracked tenants are rejected, so made-up tenant names can neither reset a busy tenant's budget
+ * nor push it out.
+ */
+public class TenantBudgets {
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+    private final double requestsPerSecond;
+    private final double burst;
+    private final int maxConnections;
+    private final long connectionWaitNanos;
+    private final int maxTenants;
+
+    public TenantBudgets(double requestsPerSecond, double burst, int maxConnections, Duration connectionWait,
+                         int maxTenants) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections must be positive");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.maxConnections = maxConnections;
+        this.connectionWaitNanos = connectionWait.toNanos();
+        this.maxTenants = maxTenants;
+    }
+
+    /**
+     * Admits one request of {@code tenant} costing {@code cost} tokens. The returned lease holds the tenant's
+     * connection slot until it is closed.
+     */
+    public Lease acquire(String tenant, int cost) {
+        Budget budget;
+        Admission admission;
+        do {
+            budget = budgetOf(tenant);
+            admission = budget.admit(Math.min(cost, burst), System.nanoTime());
+        } while (admission == Admission.RETIRED);
+        if (admission == Admission.RATE_LIMITED) {
+            throw new TooManyRequestsException("Rate budget of tenant " + tenant + " is exhausted");
+        }
+
+        boolean admitted;
+        try {
+            admitted = budget.connections.tryAcquire(connectionWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            budget.release();
+            throw new TooManyRequestsException("Connection quota of tenant " + tenant + " is exhausted");
+        }
+        Budget leased = budget;
+        return () -> {
+            leased.connections.release();
+            leased.release();
+        };
+    }
+
+    private Budget budgetOf(String tenant) {
+        Budget budget = budgets.get(tenant);
+        return budget != null ? budget : register(tenant);
+    }
+
+    private synchronized Budget register(String tenant) {
+        Budget budget = budgets.get(tenant);
+        if (budget != null) {
+            return budget;
+        }
+        if (budgets.size() >= maxTenants) {
+            long now = System.nanoTime();
+            budgets.values().removeIf(candidate -> candidate.retireIfIdle(now));
+        }
+        if (budgets.size() >= maxTenants) {
+            throw new TooManyRequestsException("Too many active tenants");
+        }
+        budget = new Budget();
+        budgets.put(tenant, budget);
+        return budget;
+    }
+
+    public interface Lease extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private enum Admission {
+        ADMITTED, RATE_LIMITED, RETIRED
+    }
+
+    private class Budget {
+        private final Semaphore connections = new Semaphore(maxConnections);
+        private double tokens = burst;
+        private long refilledAt = System.nanoTime();
+        private int leases;
+        private boolean retired;
+
+        synchronized Admission admit(double cost, long now) {
+            if (retired) {
+                return Admission.RETIRED;
+            }
+            if (requestsPerSecond > 0) {
+                refill(now);
+                if (tokens < cost) {
+                    return Admission.RATE_LIMITED;
+                }
+                tokens -= cost;
+            }
+            leases++;
+            return Admission.ADMITTED;
+        }
+
+        synchronized void release() {
+            leases--;
+        }
+
+        synchronized boolean retireIfIdle(long now) {
+            if (requestsPerSecond > 0) {
+                refill(now);
+            }
+            retired = leases == 0 && (requestsPerSecond <= 0 || tokens >= burst);
+            return retired;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) * requestsPerSecond / 1e9);
+            refilledAt = now;
+        }
+    }
+}
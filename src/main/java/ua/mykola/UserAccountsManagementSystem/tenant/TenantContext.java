@@ -0,0 +1,53 @@
+package ua.mykola.UserAccountsManagementSystem.tenant;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Tenant of the current request. Set by {@link TenantInterceptor} from the {@code /tenants/{tenant}} route
+ * prefix; code running outside a request, and requests on the plain {@code /users} routes, belong to
+ * {@link #DEFAULT}. Hibernate reads it through {@link TenantIdentifierResolver} to scope every entity query.
+ */
+public final class TenantContext {
+    public static final String DEFAULT = "default";
+
+    private static final Pattern VALID_TENANT = Pattern.compile("[a-z0-9][a-z0-9-]{0,31}");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String current() {
+        String tenant = CURRENT.get();
+        return tenant == null ? DEFAULT : tenant;
+    }
+
+    public static boolean isValid(String tenant) {
+        return tenant != null && VALID_TENANT.matcher(tenant).matches();
+    }
+
+    /**
+     * Runs {@code action} on behalf of {@code tenant}, e.g. from a job or a test.
+     */
+    public static <T> T callAs(String tenant, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    static void set(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,31 @@
+package ua.mykola.UserAccountsManagementSystem.tenant;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Hands {@link TenantContext#current()} to Hibernate, which fills {@code @TenantId} attributes on insert and
+ * restricts entity queries to that tenant. Native queries are not restricted and have to filter themselves.
+ */
+@Component
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String>, HibernatePropertiesCustomizer {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return TenantContext.current();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+}
@@ -0,0 +1,59 @@
+package ua.mykola.UserAccountsManagementSystem.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import ua.mykola.UserAccountsManagementSystem.exception.NotFoundException;
+
+import java.util.Map;
+
+/**
+ * Resolves the tenant from the {@code {tenant}} route variable, charges the request to the tenant's
+ * {@link TenantBudgets} and binds {@link TenantContext} until the request completes.
+ */
+@RequiredArgsConstructor
+public class TenantInterceptor implements HandlerInterceptor {
+    private static final String LEASE = TenantInterceptor.class.getName() + ".lease";
+
+    private final TenantBudgets tenantBudgets;
+    private final int bulkCost;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        String tenant = resolveTenant(request);
+        int cost = handlerMethod.hasMethodAnnotation(BulkOperation.class) ? bulkCost : 1;
+        request.setAttribute(LEASE, tenantBudgets.acquire(tenant, cost));
+        TenantContext.set(tenant);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(LEASE) instanceof TenantBudgets.Lease lease) {
+            request.removeAttribute(LEASE);
+            lease.close();
+        }
+        TenantContext.clear();
+    }
+
+    private static String resolveTenant(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String tenant = variables == null ? null : variables.get("tenant");
+        if (tenant == null) {
+            return TenantContext.DEFAULT;
+        }
+        if (!TenantContext.isValid(tenant)) {
+            throw new NotFoundException("Tenant " + tenant + " was not found");
+        }
+        return tenant;
+    }
+}
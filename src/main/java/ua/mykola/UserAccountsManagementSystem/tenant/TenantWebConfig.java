@@ -0,0 +1,36 @@
+package ua.mykola.UserAccountsManagementSystem.tenant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Registers {@link TenantInterceptor} with budgets from the {@code users.tenants.*} properties. Unless
+ * {@code users.tenants.max-connections} is set, a tenant may hold {@code users.tenants.pool-share} of the
+ * Hikari pool ({@code spring.datasource.hikari.maximum-pool-size}).
+ */
+@Configuration
+public class TenantWebConfig implements WebMvcConfigurer {
+    private final TenantInterceptor tenantInterceptor;
+
+    public TenantWebConfig(@Value("${users.tenants.rate.requests-per-second:500}") double requestsPerSecond,
+                           @Value("${users.tenants.rate.burst:1000}") double burst,
+                           @Value("${users.tenants.rate.bulk-cost:100}") int bulkCost,
+                           @Value("${users.tenants.max-connections:0}") int maxConnections,
+                           @Value("${users.tenants.pool-share:0.3}") double poolShare,
+                           @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                           @Value("${users.tenants.connection-wait:PT0.2S}") Duration connectionWait,
+                           @Value("${users.tenants.max-tenants:10000}") int maxTenants) {
+        int connectionQuota = maxConnections > 0 ? maxConnections : Math.max(1, (int) (poolSize * poolShare));
+        this.tenantInterceptor = new TenantInterceptor(new TenantBudgets(requestsPerSecond, burst, connectionQuota,
+                connectionWait, maxTenants), bulkCost);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(tenantInterceptor);
+    }
+}
@@ -0,0 +1,38 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends one OTLP/JSON request per trace as a line of {@code tracing.exporter.file.path}.
+ * This matches the collector's file exporter format, so the file can be replayed into a collector.
+ */
+@Component
+@ConditionalOnProperty(name = "tracing.exporter", havingValue = "file")
+public class FileSpanExporter implements SpanExporter {
+    private final OtlpJsonEncoder encoder = new OtlpJsonEncoder();
+    private final Path path;
+
+    public FileSpanExporter(@Value("${tracing.exporter.file.path:traces.jsonl}") Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public void export(List<SpanData> spans) {
+        try {
+            Files.writeString(path, encoder.encode(spans) + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
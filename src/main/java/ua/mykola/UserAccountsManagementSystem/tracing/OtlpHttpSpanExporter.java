@@ -0,0 +1,51 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts OTLP/JSON to a collector, or to any stand-in listening on {@code tracing.exporter.otlp.endpoint}.
+ */
+@Component
+@ConditionalOnProperty(name = "tracing.exporter", havingValue = "otlp")
+public class OtlpHttpSpanExporter implements SpanExporter {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final OtlpJsonEncoder encoder = new OtlpJsonEncoder();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .build();
+    private final URI endpoint;
+
+    public OtlpHttpSpanExporter(@Value("${tracing.exporter.otlp.endpoint:http://localhost:4318/v1/traces}") URI endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void export(List<SpanData> spans) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(encoder.encode(spans)))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException("Collector answered " + response.statusCode());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot reach collector at " + endpoint, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes spans as an OTLP/JSON {@code ExportTraceServiceRequest}, the body an OpenTelemetry
+ * collector accepts on {@code /v1/traces}.
+ */
+class OtlpJsonEncoder {
+    private static final String SERVICE_NAME = "user-accounts-management-system";
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_SERVER = 2;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    String encode(List<SpanData> spans) {
+        Map<String, Object> request = Map.of("resourceSpans", List.of(Map.of(
+                "resource", Map.of("attributes", List.of(attribute("service.name", SERVICE_NAME))),
+                "scopeSpans", List.of(Map.of(
+                        "scope", Map.of("name", Tracing.class.getName()),
+                        "spans", spans.stream().map(OtlpJsonEncoder::span).toList())))));
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode spans", e);
+        }
+    }
+
+    private static Map<String, Object> span(SpanData span) {
+        Map<String, Object> encoded = new LinkedHashMap<>();
+        encoded.put("traceId", span.traceId());
+        encoded.put("spanId", span.spanId());
+        if (span.parentSpanId() != null) {
+            encoded.put("parentSpanId", span.parentSpanId());
+        }
+        encoded.put("name", span.name());
+        encoded.put("kind", span.server() ? SPAN_KIND_SERVER : SPAN_KIND_INTERNAL);
+        encoded.put("startTimeUnixNano", Long.toString(span.startEpochNanos()));
+        encoded.put("endTimeUnixNano", Long.toString(span.endEpochNanos()));
+        encoded.put("attributes", span.attributes().entrySet().stream()
+                .map(entry -> attribute(entry.getKey(), entry.getValue()))
+                .toList());
+        return encoded;
+    }
+
+    private static Map<String, Object> attribute(String key, String value) {
+        return Map.of("key", key, "value", Map.of("stringValue", value));
+    }
+}
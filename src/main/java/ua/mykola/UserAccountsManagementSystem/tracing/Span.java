@@ -0,0 +1,54 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An open span. Closing it also closes any child spans that were left open.
+ */
+public class Span implements AutoCloseable {
+    static final Span NOOP = new Span(null, null, null, null, 0);
+
+    private final Trace trace;
+    private final String spanId;
+    private final String parentSpanId;
+    private final long startNanos;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private String name;
+
+    Span(Trace trace, String spanId, String parentSpanId, String name, long startNanos) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.startNanos = startNanos;
+    }
+
+    public Span setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Span setAttribute(String key, Object value) {
+        if (trace != null) {
+            attributes.put(key, String.valueOf(value));
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (trace != null) {
+            trace.end(this);
+        }
+    }
+
+    String getSpanId() {
+        return spanId;
+    }
+
+    SpanData toSpanData(String traceId, long epochOffsetNanos, long endNanos, boolean server) {
+        return new SpanData(traceId, spanId, parentSpanId, name,
+                epochOffsetNanos + startNanos, epochOffsetNanos + endNanos, server, Map.copyOf(attributes));
+    }
+}
@@ -0,0 +1,22 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import java.util.Map;
+
+/**
+ * A finished span in OpenTelemetry terms: hex trace/span ids and epoch nanosecond timestamps.
+ * {@code parentSpanId} is null for a root span without a remote parent; {@code server} marks the span
+ * covering the whole HTTP request.
+ */
+public record SpanData(String traceId,
+                       String spanId,
+                       String parentSpanId,
+                       String name,
+                       long startEpochNanos,
+                       long endEpochNanos,
+                       boolean server,
+                       Map<String, String> attributes) {
+
+    public long durationNanos() {
+        return endEpochNanos - startEpochNanos;
+    }
+}
@@ -0,0 +1,12 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import java.util.List;
+
+/**
+ * Receives the spans of each finished trace, off the request thread.
+ * Selected with {@code tracing.exporter}; without one, traces only feed the Server-Timing header.
+ */
+public interface SpanExporter {
+
+    void export(List<SpanData> spans);
+}
@@ -0,0 +1,75 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Spans of one sampled request. Confined to the request thread, so it needs no synchronization.
+ * Times come from {@link System#nanoTime()} and are shifted onto the epoch once per trace.
+ */
+public class Trace {
+    private final String traceId;
+    private final long epochOffsetNanos;
+    private final Deque<Span> openSpans = new ArrayDeque<>();
+    private final List<SpanData> finishedSpans = new ArrayList<>();
+    private final Span root;
+
+    Trace(String traceId, String remoteParentSpanId, String rootName) {
+        this.traceId = traceId;
+        this.epochOffsetNanos = ChronoUnit.NANOS.between(Instant.EPOCH, Instant.now()) - System.nanoTime();
+        this.root = new Span(this, newSpanId(), remoteParentSpanId, rootName, System.nanoTime());
+        openSpans.push(root);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public Span getRoot() {
+        return root;
+    }
+
+    public List<SpanData> getFinishedSpans() {
+        return finishedSpans;
+    }
+
+    Span start(String name) {
+        Span span = new Span(this, newSpanId(), openSpans.element().getSpanId(), name, System.nanoTime());
+        openSpans.push(span);
+        return span;
+    }
+
+    void end(Span span) {
+        if (!openSpans.contains(span)) {
+            return;
+        }
+        long now = System.nanoTime();
+        Span ended;
+        do {
+            ended = openSpans.pop();
+            finishedSpans.add(ended.toSpanData(traceId, epochOffsetNanos, now, ended == root));
+        } while (ended != span);
+    }
+
+    /**
+     * Ends the root span together with anything still open.
+     */
+    void finish() {
+        end(root);
+    }
+
+    static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return HexFormat.of().toHexDigits(random.nextLong()) + HexFormat.of().toHexDigits(random.nextLong());
+    }
+
+    private static String newSpanId() {
+        return HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,42 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import java.util.function.Supplier;
+
+/**
+ * Entry point for instrumented code. Outside a sampled request every call is a thread-local
+ * lookup that returns a no-op span, so instrumentation can stay on the hot path.
+ */
+public final class Tracing {
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private Tracing() {
+    }
+
+    public static Span startSpan(String name) {
+        Trace trace = CURRENT.get();
+        return trace == null ? Span.NOOP : trace.start(name);
+    }
+
+    public static <T> T inSpan(String name, Supplier<T> action) {
+        try (Span ignored = startSpan(name)) {
+            return action.get();
+        }
+    }
+
+    public static void inSpan(String name, Runnable action) {
+        try (Span ignored = startSpan(name)) {
+            action.run();
+        }
+    }
+
+    static Trace begin(String traceId, String remoteParentSpanId, String rootName) {
+        Trace trace = new Trace(traceId, remoteParentSpanId, rootName);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end(Trace trace) {
+        trace.finish();
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,34 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spans around every {@code UserService} and {@code UserRepository} call. Ordered first, so service
+ * spans include transaction begin and commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+
+    @Around("this(ua.mykola.UserAccountsManagementSystem.service.UserService)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("UserService." + joinPoint.getSignature().getName(), joinPoint);
+    }
+
+    @Around("this(ua.mykola.UserAccountsManagementSystem.repository.UserRepository)")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("UserRepository." + joinPoint.getSignature().getName(), joinPoint);
+    }
+
+    private static Object trace(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        try (Span ignored = Tracing.startSpan(name)) {
+            return joinPoint.proceed();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Type;
+
+/**
+ * Times JSON binding of request bodies and serialization of response bodies. The serialization span
+ * is left open and ends with the enclosing handler span, once the converter has written the body.
+ */
+@ControllerAdvice
+public class TracingBodyAdvice extends RequestBodyAdviceAdapter implements ResponseBodyAdvice<Object> {
+    private static final String BINDING_SPAN = TracingBodyAdvice.class.getName() + ".binding";
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestContextHolder.currentRequestAttributes()
+                .setAttribute(BINDING_SPAN, Tracing.startSpan("json.binding"), RequestAttributes.SCOPE_REQUEST);
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        Object span = RequestContextHolder.currentRequestAttributes()
+                .getAttribute(BINDING_SPAN, RequestAttributes.SCOPE_REQUEST);
+        if (span instanceof Span bindingSpan) {
+            bindingSpan.close();
+        }
+        return body;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        Tracing.startSpan("serialization");
+        return body;
+    }
+}
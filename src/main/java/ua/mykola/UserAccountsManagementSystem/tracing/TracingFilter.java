@@ -0,0 +1,165 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Decides per request whether to trace it and, for sampled requests, opens the root span,
+ * adds a {@code Server-Timing} header with the time spent per phase and hands the trace to the exporter.
+ * <p>
+ * {@code tracing.sampling.mode}: {@code never}, {@code always}, or {@code ratio} (default), which samples
+ * {@code tracing.sampling.ratio} of requests. An incoming W3C {@code traceparent} header is honored, including its
+ * sampled flag, only from the addresses in {@code tracing.sampling.trusted-upstreams}; anyone else could otherwise
+ * force every request to be traced.
+ * <p>
+ * {@code Server-Timing} reveals internal phases, so it is added only with {@code tracing.server-timing.enabled}.
+ * Those responses are buffered, so the header can include serialization time.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingFilter extends OncePerRequestFilter {
+    private static final Pattern TRACEPARENT = Pattern.compile("00-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})");
+    private static final int EXPORT_QUEUE_CAPACITY = 1_000;
+
+    private final SamplingMode samplingMode;
+    private final double samplingRatio;
+    private final Set<String> trustedUpstreams;
+    private final boolean serverTimingEnabled;
+    private final SpanExporter spanExporter;
+    private final ThreadPoolExecutor exportExecutor;
+
+    public TracingFilter(@Value("${tracing.sampling.mode:ratio}") String samplingMode,
+                         @Value("${tracing.sampling.ratio:0.01}") double samplingRatio,
+                         @Value("${tracing.sampling.trusted-upstreams:}") Set<String> trustedUpstreams,
+                         @Value("${tracing.server-timing.enabled:false}") boolean serverTimingEnabled,
+                         ObjectProvider<SpanExporter> spanExporter) {
+        this.samplingMode = SamplingMode.valueOf(samplingMode.toUpperCase(Locale.ROOT));
+        this.samplingRatio = samplingRatio;
+        this.trustedUpstreams = trustedUpstreams;
+        this.serverTimingEnabled = serverTimingEnabled;
+        this.spanExporter = spanExporter.getIfAvailable();
+        this.exportExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPORT_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "span-exporter");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Matcher traceparent = trustedUpstreams.contains(request.getRemoteAddr())
+                ? parseTraceparent(request.getHeader("traceparent"))
+                : null;
+        if (!isSampled(traceparent)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Trace trace = Tracing.begin(
+                traceparent != null ? traceparent.group(1) : Trace.newTraceId(),
+                traceparent != null ? traceparent.group(2) : null,
+                request.getMethod());
+        ContentCachingResponseWrapper cachingResponse = serverTimingEnabled
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+        try {
+            filterChain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            trace.getRoot()
+                    .setName(route == null ? request.getMethod() : request.getMethod() + " " + route)
+                    .setAttribute("http.request.method", request.getMethod())
+                    .setAttribute("url.path", request.getRequestURI())
+                    .setAttribute("http.response.status_code", response.getStatus());
+            Tracing.end(trace);
+            if (cachingResponse != null) {
+                cachingResponse.setHeader("Server-Timing", serverTiming(trace.getFinishedSpans()));
+                cachingResponse.copyBodyToResponse();
+            }
+            export(trace.getFinishedSpans());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        exportExecutor.shutdown();
+    }
+
+    private static Matcher parseTraceparent(String header) {
+        if (header == null) {
+            return null;
+        }
+        Matcher matcher = TRACEPARENT.matcher(header.trim());
+        return matcher.matches() ? matcher : null;
+    }
+
+    private boolean isSampled(Matcher traceparent) {
+        return switch (samplingMode) {
+            case NEVER -> false;
+            case ALWAYS -> true;
+            case RATIO -> traceparent != null
+                    ? (Integer.parseInt(traceparent.group(3), 16) & 1) == 1
+                    : ThreadLocalRandom.current().nextDouble() < samplingRatio;
+        };
+    }
+
+    /**
+     * One metric per span name, summing repeated calls, in order of first start; the root span is {@code total}.
+     */
+    static String serverTiming(List<SpanData> spans) {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        spans.stream()
+                .sorted(Comparator.comparingLong(SpanData::startEpochNanos))
+                .forEach(span -> durations.merge(span.server() ? "total" : span.name(),
+                        span.durationNanos(), Long::sum));
+        return durations.entrySet().stream()
+                .map(entry -> String.format(Locale.ROOT, "%s;dur=%.3f", entry.getKey(), entry.getValue() / 1e6))
+                .collect(Collectors.joining(", "));
+    }
+
+    private void export(List<SpanData> spans) {
+        if (spanExporter == null) {
+            return;
+        }
+        exportExecutor.execute(() -> {
+            try {
+                spanExporter.export(spans);
+            } catch (RuntimeException e) {
+                log.warn("Failed to export trace", e);
+            }
+        });
+    }
+
+    private enum SamplingMode {
+        NEVER, ALWAYS, RATIO
+    }
+}
@@ -0,0 +1,48 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+/**
+ * Bean Validation behind a {@code validation} span. The delegate is resolved on first use because
+ * MVC asks for its validator while the context is still being set up.
+ */
+public class TracingValidator implements SmartValidator {
+    private final ObjectProvider<jakarta.validation.Validator> validatorProvider;
+    private volatile SmartValidator delegate;
+
+    public TracingValidator(ObjectProvider<jakarta.validation.Validator> validatorProvider) {
+        this.validatorProvider = validatorProvider;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate().supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        try (Span ignored = Tracing.startSpan("validation")) {
+            delegate().validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        try (Span ignored = Tracing.startSpan("validation")) {
+            delegate().validate(target, errors, validationHints);
+        }
+    }
+
+    private SmartValidator delegate() {
+        if (delegate == null) {
+            jakarta.validation.Validator validator = validatorProvider.getObject();
+            delegate = validator instanceof SmartValidator smartValidator
+                    ? smartValidator
+                    : new SpringValidatorAdapter(validator);
+        }
+        return delegate;
+    }
+}
@@ -0,0 +1,50 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Opens a span per controller method and routes MVC validation through {@link TracingValidator}.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TracingWebConfig implements WebMvcConfigurer {
+    private static final String HANDLER_SPAN = TracingWebConfig.class.getName() + ".handler";
+
+    private final ObjectProvider<jakarta.validation.Validator> validatorProvider;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof HandlerMethod handlerMethod) {
+                    request.setAttribute(HANDLER_SPAN, Tracing.startSpan(
+                            handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName()));
+                }
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                        Exception ex) {
+                if (request.getAttribute(HANDLER_SPAN) instanceof Span span) {
+                    span.close();
+                }
+            }
+        });
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new TracingValidator(validatorProvider);
+    }
+}
@@ -0,0 +1,3 @@
+-- Run by Hibernate after it creates the schema. Usernames are unique among live users only, so a deleted
+-- user's name can be taken again before the purge job removes the row.
+create unique index ux_users_tenant_username_live on users (tenant_id, username) where deleted_at is null;
@@ -0,0 +1,74 @@
+package ua.mykola.UserAccountsManagementSystem.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps the application {@link DataSource} and records how many connections were checked out
+ * and for how long each was held before being returned to the pool.
+ */
+public class ConnectionHoldTimer implements BeanPostProcessor {
+    private final AtomicLong checkouts = new AtomicLong();
+    private final AtomicLong heldNanos = new AtomicLong();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return new TimingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    public void reset() {
+        checkouts.set(0);
+        heldNanos.set(0);
+    }
+
+    public long getCheckouts() {
+        return checkouts.get();
+    }
+
+    public long getHeldNanos() {
+        return heldNanos.get();
+    }
+
+    private class TimingDataSource extends DelegatingDataSource {
+
+        TimingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return timed(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return timed(super.getConnection(username, password));
+        }
+
+        private Connection timed(Connection connection) {
+            long checkedOutAt = System.nanoTime();
+            checkouts.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            heldNanos.addAndGet(System.nanoTime() - checkedOutAt);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (java.lang.reflect.InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package ua.mykola.UserAccountsManagementSystem.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ua.mykola.UserAccountsManagementSystem.entity.Gender;
+import ua.mykola.UserAccountsManagementSystem.entity.User;
+import ua.mykola.UserAccountsManagementSystem.repository.UserRepository;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
+import ua.mykola.UserAccountsManagementSystem.service.UserService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Measures insert throughput, both batched through {@code saveAll} and one user per request through
+ * {@code UserService.save}. Run with {@code mvn -Pbenchmark test -Dtest=InsertThroughputBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "users.cache.invalidation.transport=loopback"
+})
+class InsertThroughputBenchmark {
+    private static final int BATCH = 1_000;
+    private static final int BATCHES = Integer.getInteger("benchmark.batches", 20);
+    private static final int SINGLE_INSERTS = Integer.getInteger("benchmark.iterations", 5_000);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Test
+    void measureInsertThroughput() {
+        saveAllBatches(BATCHES / 4);
+        long start = System.nanoTime();
+        saveAllBatches(BATCHES);
+        report("saveAll, " + BATCH + " per call", BATCHES * BATCH, System.nanoTime() - start);
+
+        saveOneByOne(SINGLE_INSERTS / 4);
+        start = System.nanoTime();
+        saveOneByOne(SINGLE_INSERTS);
+        report("UserService.save", SINGLE_INSERTS, System.nanoTime() - start);
+    }
+
+    private void saveAllBatches(int batches) {
+        for (int i = 0; i < batches; i++) {
+            List<User> users = IntStream.range(0, BATCH)
+                    .mapToObj(j -> User.builder()
+                            .username("insert" + sequence.incrementAndGet())
+                            .gender(Gender.MALE)
+                            .birthDate(LocalDate.of(1990, 1, 1))
+                            .accountCreation(LocalDateTime.now())
+                            .build())
+                    .toList();
+            userRepository.saveAll(users);
+        }
+    }
+
+    private void saveOneByOne(int count) {
+        for (int i = 0; i < count; i++) {
+            userService.save(UserDto.builder()
+                    .username("insert" + sequence.incrementAndGet())
+                    .gender(Gender.FEMALE.name())
+                    .birthDate(LocalDate.of(1990, 1, 1))
+                    .build());
+        }
+    }
+
+    private static void report(String scenario, int rows, long nanos) {
+        System.out.printf("%-28s %8d rows %10.1f rows/s%n", scenario, rows, rows / (nanos / 1e9));
+    }
+}
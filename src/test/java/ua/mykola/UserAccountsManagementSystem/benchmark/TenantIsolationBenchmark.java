@@ -0,0 +1,182 @@
+package ua.mykola.UserAccountsManagementSystem.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ua.mykola.UserAccountsManagementSystem.UserAccountsManagementSystemApplication;
+import ua.mykola.UserAccountsManagementSystem.entity.Gender;
+import ua.mykola.UserAccountsManagementSystem.entity.User;
+import ua.mykola.UserAccountsManagementSystem.repository.UserRepository;
+import ua.mykola.UserAccountsManagementSystem.tenant.TenantContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Skewed multi-tenant traffic over HTTP. One noisy tenant pulls 1000-user pages and issues bulk deletes
+ * from many clients, while a few quiet tenants read single users and small pages. The run is made once with the
+ * per-tenant budgets effectively disabled and once with the configured ones, and it reports the quiet tenants'
+ * latency and the noisy tenant's admitted and rejected requests for both.
+ * Run with {@code mvn -Pbenchmark test -Dtest=TenantIsolationBenchmark}.
+ * <p>
+ * Options (system properties): {@code benchmark.duration} / {@code benchmark.warmup} in seconds (20 / 5),
+ * {@code benchmark.noisy-threads} (12) and {@code benchmark.quiet-threads} (4).
+ */
+@Tag("benchmark")
+class TenantIsolationBenchmark {
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration", 20));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup", 5));
+    private static final int NOISY_THREADS = Integer.getInteger("benchmark.noisy-threads", 12);
+    private static final int QUIET_THREADS = Integer.getInteger("benchmark.quiet-threads", 4);
+
+    private static final String NOISY_TENANT = "noisy";
+    private static final List<String> QUIET_TENANTS = List.of("quiet-1", "quiet-2", "quiet-3", "quiet-4");
+    private static final int NOISY_USERS = 20_000;
+    private static final int QUIET_USERS = 500;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @Test
+    void measureQuietTenantLatencyUnderNoisyNeighbour() throws Exception {
+        Result shared = run("users.tenants.rate.requests-per-second=0", "users.tenants.max-connections=1000");
+        Result isolated = run();
+
+        System.out.printf("%-10s %14s %10s %10s %10s %14s %14s%n",
+                "budgets", "quiet req/s", "p50 us", "p99 us", "p999 us", "noisy ok/s", "noisy 429/s");
+        shared.print("off");
+        isolated.print("on");
+    }
+
+    private Result run(String... properties) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                UserAccountsManagementSystemApplication.class)
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.lazy-initialization=false",
+                        "users.cache.invalidation.transport=loopback")
+                .properties(properties)
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            seed(context.getBean(UserRepository.class));
+
+            Result warmup = new Result();
+            drive(baseUrl, warmup, WARMUP);
+            Result result = new Result();
+            drive(baseUrl, result, DURATION);
+            return result;
+        }
+    }
+
+    private static void seed(UserRepository userRepository) {
+        TenantContext.callAs(NOISY_TENANT, () -> userRepository.saveAll(users(NOISY_TENANT, NOISY_USERS)));
+        for (String tenant : QUIET_TENANTS) {
+            TenantContext.callAs(tenant, () -> userRepository.saveAll(users(tenant, QUIET_USERS)));
+        }
+    }
+
+    private static List<User> users(String tenant, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> User.builder()
+                        .username(tenant.replace("-", "") + "u" + i)
+                        .gender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE)
+                        .birthDate(LocalDate.of(1970, 1, 1).plusDays(i % 15_000))
+                        .accountCreation(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+
+    private void drive(String baseUrl, Result result, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(NOISY_THREADS + QUIET_THREADS);
+        for (int i = 0; i < NOISY_THREADS; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    noisyRequest(baseUrl, result);
+                }
+            });
+        }
+        for (int i = 0; i < QUIET_THREADS; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    quietRequest(baseUrl, result);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        result.seconds = duration.toNanos() / 1e9;
+    }
+
+    private void noisyRequest(String baseUrl, Result result) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String usersUrl = baseUrl + "/tenants/" + NOISY_TENANT + "/users";
+        HttpRequest request = random.nextInt(10) == 0
+                ? HttpRequest.newBuilder(URI.create(usersUrl + "/bulk-delete"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"createdBefore\":\"2000-01-01T00:00:00\"}"))
+                .build()
+                : HttpRequest.newBuilder(URI.create(usersUrl + "?size=1000&page="
+                + random.nextInt(NOISY_USERS / 1000))).build();
+        int status = send(request);
+        (status == 429 ? result.noisyRejected : result.noisyAdmitted).incrementAndGet();
+    }
+
+    private void quietRequest(String baseUrl, Result result) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String usersUrl = baseUrl + "/tenants/" + QUIET_TENANTS.get(random.nextInt(QUIET_TENANTS.size())) + "/users";
+        URI uri = random.nextBoolean()
+                ? URI.create(usersUrl + "?size=20&page=" + random.nextInt(QUIET_USERS / 20))
+                : URI.create(usersUrl + "?fields=id,username&size=1&page=" + random.nextInt(QUIET_USERS));
+        long start = System.nanoTime();
+        int status = send(HttpRequest.newBuilder(uri).build());
+        result.quietLatency.recordValue((System.nanoTime() - start) / 1_000);
+        if (status != 200) {
+            result.quietErrors.incrementAndGet();
+        }
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static class Result {
+        private final Histogram quietLatency = new ConcurrentHistogram(3);
+        private final AtomicLong quietErrors = new AtomicLong();
+        private final AtomicLong noisyAdmitted = new AtomicLong();
+        private final AtomicLong noisyRejected = new AtomicLong();
+        private double seconds;
+
+        void print(String budgets) {
+            System.out.printf("%-10s %14.1f %10d %10d %10d %14.1f %14.1f%s%n",
+                    budgets,
+                    quietLatency.getTotalCount() / seconds,
+                    quietLatency.getValueAtPercentile(50),
+                    quietLatency.getValueAtPercentile(99),
+                    quietLatency.getValueAtPercentile(99.9),
+                    noisyAdmitted.get() / seconds,
+                    noisyRejected.get() / seconds,
+                    quietErrors.get() == 0 ? "" : "  (" + quietErrors.get() + " quiet errors)");
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ua.mykola.UserAccountsManagementSystem.benchmark;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.mykola.UserAccountsManagementSystem.entity.Gender;
+import ua.mykola.UserAccountsManagementSystem.entity.User;
+import ua.mykola.UserAccountsManagementSystem.repository.UserRepository;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserField;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.UpdateUserDto;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
+import ua.mykola.UserAccountsManagementSystem.service.UserService;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * Compares per-operation CPU time and connection hold time of the read and update paths
+ * with implicit transactions against the explicit boundaries declared on UserServiceImpl.
+ * Run with {@code mvn -Pbenchmark test -Dtest=TransactionBoundaryBenchmark}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "users.cache.invalidation.transport=loopback"
+})
+class TransactionBoundaryBenchmark {
+    private static final int USERS = 1_000;
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 2_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10_000);
+
+    /**
+     * The service caches full reads; requesting a subset keeps every call on the database.
+     */
+    private static final Set<UserField> UNCACHED_FIELDS = Set.of(
+            UserField.ID, UserField.USERNAME, UserField.GENDER, UserField.BIRTH_DATE, UserField.ACCOUNT_CREATION);
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        static ConnectionHoldTimer connectionHoldTimer() {
+            return new ConnectionHoldTimer();
+        }
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ConnectionHoldTimer connectionHoldTimer;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @BeforeAll
+    void seed() {
+        userRepository.saveAll(LongStream.range(0, USERS)
+                .mapToObj(i -> User.builder()
+                        .username("bench" + i)
+                        .gender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE)
+                        .birthDate(LocalDate.of(1970, 1, 1).plusDays(i * 17))
+                        .accountCreation(LocalDateTime.now())
+                        .build())
+                .toList());
+    }
+
+    @Test
+    void compareTransactionBoundaries() {
+        List<Long> ids = userRepository.findAll().stream().map(User::getId).toList();
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        System.out.println("scenario                               cpu us/op   conn hold us/op   checkouts/op");
+        run("read: entity, read-write tx", ids, (id, pass) -> readWrite.execute(status ->
+                UserDto.fromEntity(userRepository.findById(id).orElseThrow())));
+        run("read: entity, read-only tx", ids, (id, pass) -> readOnly.execute(status ->
+                UserDto.fromEntity(userRepository.findById(id).orElseThrow())));
+        run("read: UserService.getById", ids, (id, pass) -> userService.getById(id, UNCACHED_FIELDS));
+        run("update: find + save, no outer tx", ids, (id, pass) -> {
+            User user = userRepository.findById(id).orElseThrow();
+            user.setGender(genderFor(pass));
+            userRepository.save(user);
+        });
+        run("update: UserService.update", ids, (id, pass) ->
+                userService.update(id, UpdateUserDto.builder().gender(genderFor(pass).name()).build()));
+    }
+
+    /**
+     * Alternates per pass over the ids, so every update really changes the row.
+     */
+    private static Gender genderFor(int pass) {
+        return pass % 2 == 0 ? Gender.FEMALE : Gender.MALE;
+    }
+
+    private void run(String scenario, List<Long> ids, Operation operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.accept(ids.get(i % ids.size()), i / ids.size());
+        }
+        connectionHoldTimer.reset();
+        long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.accept(ids.get(i % ids.size()), (WARMUP + i) / ids.size());
+        }
+        long cpuNanos = threadMXBean.getCurrentThreadCpuTime() - cpuStart;
+        System.out.printf("%-38s %9.1f %17.1f %14.2f%n", scenario,
+                cpuNanos / 1_000.0 / ITERATIONS,
+                connectionHoldTimer.getHeldNanos() / 1_000.0 / ITERATIONS,
+                (double) connectionHoldTimer.getCheckouts() / ITERATIONS);
+    }
+
+    private interface Operation {
+        void accept(long id, int pass);
+    }
+}
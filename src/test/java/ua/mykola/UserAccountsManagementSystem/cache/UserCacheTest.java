@@ -0,0 +1,150 @@
+package ua.mykola.UserAccountsManagementSystem.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.mykola.UserAccountsManagementSystem.cache.invalidation.LoopbackInvalidationTransport;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
+import ua.mykola.UserAccountsManagementSystem.testEntities.UserUtil;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCacheTest {
+    private static final String TENANT = "acme";
+
+    private LoopbackInvalidationTransport transport;
+    private InMemorySharedCacheBackend secondSharedCache;
+    private UserCache firstNode;
+    private UserCache secondNode;
+
+    /**
+     * Every node gets its own in-memory shared tier, as separate processes would.
+     */
+    @BeforeEach
+    void setUp() {
+        transport = new LoopbackInvalidationTransport();
+        secondSharedCache = new InMemorySharedCacheBackend(100, Duration.ofMinutes(1), 10);
+        firstNode = new UserCache(new InMemorySharedCacheBackend(100, Duration.ofMinutes(1), 10),
+                transport, 100, Duration.ofMinutes(1), 10);
+        secondNode = new UserCache(secondSharedCache, transport, 100, Duration.ofMinutes(1), 10);
+    }
+
+    @Test
+    @DisplayName("Reading user cached by another node")
+    void givenUserCachedByFirstNode_whenSecondNodeGets_thenSharedTierIsHit() {
+        //given
+        InMemorySharedCacheBackend sharedCache = new InMemorySharedCacheBackend(100, Duration.ofMinutes(1), 10);
+        UserCache firstSharingNode = new UserCache(sharedCache, transport, 100, Duration.ofMinutes(1), 10);
+        UserCache secondSharingNode = new UserCache(sharedCache, transport, 100, Duration.ofMinutes(1), 10);
+        UserDto user = UserUtil.getBohnJoPersistedDto();
+        firstSharingNode.put(TENANT, 1l, user);
+
+        //when
+        UserDto obtainedUser = secondSharingNode.get(TENANT, 1l).orElseThrow();
+
+        //then
+        assertSame(user, obtainedUser);
+    }
+
+    @Test
+    @DisplayName("Invalidating user on another node")
+    void givenUserCachedOnBothNodes_whenFirstNodeInvalidates_thenSecondNodeMisses() {
+        //given
+        firstNode.put(TENANT, 1l, UserUtil.getBohnJoPersistedDto());
+        secondNode.put(TENANT, 1l, UserUtil.getBohnJoPersistedDto());
+
+        //when
+        firstNode.invalidate(TENANT, 1l);
+
+        //then
+        assertTrue(secondNode.get(TENANT, 1l).isEmpty());
+        assertTrue(secondSharedCache.get(TENANT, 1l).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Invalidating all users on another node")
+    void givenUserCachedOnBothNodes_whenFirstNodeInvalidatesAll_thenSecondNodeMisses() {
+        //given
+        firstNode.put(TENANT, 1l, UserUtil.getBohnJoPersistedDto());
+        secondNode.put(TENANT, 1l, UserUtil.getBohnJoPersistedDto());
+
+        //when
+        firstNode.invalidateAll(TENANT);
+
+        //then
+        assertTrue(secondNode.get(TENANT, 1l).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Reading user cached by another tenant")
+    void givenUserCachedForOneTenant_whenOtherTenantGets_thenCacheMisses() {
+        //given
+        firstNode.put(TENANT, 1l, UserUtil.getBohnJoPersistedDto());
+
+        //when
+        firstNode.invalidateAll("globex");
+
+        //then
+        assertTrue(firstNode.get("globex", 1l).isEmpty());
+        assertTrue(firstNode.get(TENANT, 1l).isPresent());
+    }
+
+    @Test
+    @DisplayName("Caching user read before its invalidation")
+    void givenInvalidationAfterRead_whenPutIfUnchanged_thenUserIsNotCached() {
+        //given
+        long generation = firstNode.generation(TENANT, 1l);
+        firstNode.invalidate(TENANT, 1l);
+
+        //when
+        firstNode.putIfUnchanged(TENANT, 1l, UserUtil.getBohnJoPersistedDto(), generation);
+
+        //then
+        assertTrue(firstNode.get(TENANT, 1l).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Caching user read before its invalidation on another node")
+    void givenRemoteInvalidationAfterRead_whenPutIfUnchanged_thenUserIsNotCached() {
+        //given
+        long generation = secondNode.generation(TENANT, 1l);
+        firstNode.invalidate(TENANT, 1l);
+
+        //when
+        secondNode.putIfUnchanged(TENANT, 1l, UserUtil.getBohnJoPersistedDto(), generation);
+
+        //then
+        assertTrue(secondNode.get(TENANT, 1l).isEmpty());
+        assertTrue(secondSharedCache.get(TENANT, 1l).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Caching user read before invalidating all users")
+    void givenInvalidateAllAfterRead_whenPutIfUnchanged_thenUserIsNotCached() {
+        //given
+        long generation = firstNode.generation(TENANT, 1l);
+        firstNode.invalidateAll(TENANT);
+
+        //when
+        firstNode.putIfUnchanged(TENANT, 1l, UserUtil.getBohnJoPersistedDto(), generation);
+
+        //then
+        assertTrue(firstNode.get(TENANT, 1l).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Caching user without invalidation since read")
+    void givenNoInvalidationAfterRead_whenPutIfUnchanged_thenUserIsCached() {
+        //given
+        long generation = firstNode.generation(TENANT, 1l);
+        firstNode.invalidate(TENANT, 2l);
+
+        //when
+        firstNode.putIfUnchanged(TENANT, 1l, UserUtil.getBohnJoPersistedDto(), generation);
+
+        //then
+        assertTrue(firstNode.get(TENANT, 1l).isPresent());
+    }
+}
@@ -0,0 +1,61 @@
+package ua.mykola.UserAccountsManagementSystem.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BirthdaysTest {
+
+    @Test
+    @DisplayName("Month-days of a window spanning a month boundary")
+    void givenWindowAcrossMonths_whenMonthDaysBetween_thenBothMonthsAreEncoded() {
+        //when
+        Set<Short> monthDays = Birthdays.monthDaysBetween(LocalDate.of(2026, 12, 31), LocalDate.of(2027, 1, 1));
+
+        //then
+        assertEquals(Set.of((short) 1231, (short) 101), monthDays);
+    }
+
+    @Test
+    @DisplayName("Leap day birthdays in a non-leap year")
+    void givenFebruary28InNonLeapYear_whenMonthDaysBetween_thenLeapDayIsIncluded() {
+        //when
+        Set<Short> nonLeapYear = Birthdays.monthDaysBetween(LocalDate.of(2026, 2, 28), LocalDate.of(2026, 2, 28));
+        Set<Short> leapYear = Birthdays.monthDaysBetween(LocalDate.of(2028, 2, 28), LocalDate.of(2028, 2, 28));
+
+        //then
+        assertEquals(Set.of((short) 228, (short) 229), nonLeapYear);
+        assertEquals(Set.of((short) 228), leapYear);
+    }
+
+    @Test
+    @DisplayName("Age of leap day born user on February 28 of a non-leap year")
+    void givenLeapDayBirthDate_whenAgeAtFebruary28InNonLeapYear_thenBirthdayIsReached() {
+        //given
+        LocalDate birthDate = LocalDate.of(2008, 2, 29);
+
+        //when
+        Integer nonLeapYearAge = Birthdays.ageAt(birthDate, LocalDate.of(2026, 2, 28));
+        Integer leapYearAge = Birthdays.ageAt(birthDate, LocalDate.of(2028, 2, 28));
+
+        //then
+        assertEquals(18, nonLeapYearAge);
+        assertEquals(19, leapYearAge);
+    }
+
+    @Test
+    @DisplayName("Latest birth date for an age on February 28 of a non-leap year")
+    void givenFebruary28InNonLeapYear_whenLatestBirthDateForAge_thenLeapDayIsIncluded() {
+        //when
+        LocalDate leapBirthYear = Birthdays.latestBirthDateForAge(LocalDate.of(2026, 2, 28), 18);
+        LocalDate nonLeapBirthYear = Birthdays.latestBirthDateForAge(LocalDate.of(2026, 2, 28), 17);
+
+        //then
+        assertEquals(LocalDate.of(2008, 2, 29), leapBirthYear);
+        assertEquals(LocalDate.of(2009, 2, 28), nonLeapBirthYear);
+    }
+}
@@ -0,0 +1,147 @@
+package ua.mykola.UserAccountsManagementSystem.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-endpoint latency distributions in microseconds, plus unexpected-status counts.
+ */
+class LatencyReport {
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+    private static final double[] SLO_PERCENTILES = {99.0, 99.9};
+
+    private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+
+    LatencyReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new AtomicLong());
+        }
+    }
+
+    void record(Endpoint endpoint, long latencyNanos, boolean expectedStatus) {
+        histograms.get(endpoint).recordValue(Math.min(latencyNanos / 1_000, HIGHEST_TRACKABLE_MICROS));
+        if (!expectedStatus) {
+            errors.get(endpoint).incrementAndGet();
+        }
+    }
+
+    void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(counter -> counter.set(0));
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    void print(PrintStream out, Duration measured) {
+        out.printf("%-22s %9s %10s %9s %9s %9s %9s %9s %7s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        histograms.forEach((endpoint, histogram) -> out.printf("%-22s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                endpoint.getLabel(),
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / (measured.toMillis() / 1_000.0),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                errors.get(endpoint).get()));
+    }
+
+    /**
+     * Writes each distribution in the .hgrm format understood by the HdrHistogram plotter.
+     */
+    void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    directory.resolve(entry.getKey().getKey() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+    }
+
+    Properties toBaseline() {
+        Properties baseline = new Properties();
+        histograms.forEach((endpoint, histogram) -> {
+            for (double percentile : SLO_PERCENTILES) {
+                baseline.setProperty(baselineKey(endpoint, percentile),
+                        Long.toString(histogram.getValueAtPercentile(percentile)));
+            }
+        });
+        return baseline;
+    }
+
+    /**
+     * Lists every endpoint percentile that exceeds its baseline by more than {@code tolerance}.
+     */
+    List<String> regressions(Properties baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        histograms.forEach((endpoint, histogram) -> {
+            for (double percentile : SLO_PERCENTILES) {
+                String key = baselineKey(endpoint, percentile);
+                String expected = baseline.getProperty(key);
+                if (expected == null) {
+                    continue;
+                }
+                long limit = (long) (Long.parseLong(expected) * (1 + tolerance));
+                long actual = histogram.getValueAtPercentile(percentile);
+                if (actual > limit) {
+                    regressions.add(String.format("%s p%s: %.2f ms > %.2f ms (baseline %.2f ms + %.0f%%)",
+                            endpoint.getLabel(), percentileName(percentile), millis(actual), millis(limit),
+                            millis(Long.parseLong(expected)), tolerance * 100));
+                }
+            }
+        });
+        return regressions;
+    }
+
+    private static String baselineKey(Endpoint endpoint, double percentile) {
+        return endpoint.getKey() + ".p" + percentileName(percentile) + ".micros";
+    }
+
+    private static String percentileName(double percentile) {
+        return percentile == 99.0 ? "99" : "999";
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    enum Endpoint {
+        READ("read", "GET /users/{id}"),
+        WRITE("write", "PATCH /users/{id}"),
+        NOT_FOUND("notFound", "GET /users/{id} 404");
+
+        private final String key;
+        private final String label;
+
+        Endpoint(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        String getLabel() {
+            return label;
+        }
+    }
+}
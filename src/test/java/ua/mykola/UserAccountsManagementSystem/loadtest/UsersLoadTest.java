@@ -0,0 +1,199 @@
+package ua.mykola.UserAccountsManagementSystem.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ua.mykola.UserAccountsManagementSystem.entity.Gender;
+import ua.mykola.UserAccountsManagementSystem.entity.User;
+import ua.mykola.UserAccountsManagementSystem.loadtest.LatencyReport.Endpoint;
+import ua.mykola.UserAccountsManagementSystem.repository.UserRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Closed-loop load test of the running service over real HTTP. Run with {@code mvn -Ploadtest test}.
+ * <p>
+ * Options (system properties):
+ * <ul>
+ *     <li>{@code loadtest.duration} / {@code loadtest.warmup}: measured and warm-up time in seconds (30 / 10)</li>
+ *     <li>{@code loadtest.threads}: concurrent clients (16)</li>
+ *     <li>{@code loadtest.mix}: read, write and 404 percentages (70,20,10)</li>
+ *     <li>{@code loadtest.users}: users seeded before the run (1000)</li>
+ *     <li>{@code loadtest.jdbc-url}: use an existing PostgreSQL, e.g. a container, instead of the embedded one</li>
+ *     <li>{@code loadtest.tolerance}: allowed p99/p999 growth over the baseline (0.25)</li>
+ *     <li>{@code loadtest.update-baseline}: write this run's percentiles as the new baseline instead of checking</li>
+ * </ul>
+ * Latency distributions are written to {@code target/loadtest/*.hgrm}.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.main.lazy-initialization=false",
+        "users.tenants.rate.requests-per-second=0",
+        "users.tenants.max-connections=1000"
+})
+class UsersLoadTest {
+    private static final Path BASELINE = Path.of("src/test/resources/loadtest/baseline.properties");
+    private static final Path DISTRIBUTIONS = Path.of("target/loadtest");
+
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup", 10));
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 16);
+    private static final int USERS = Integer.getInteger("loadtest.users", 1_000);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25"));
+    private static final int[] MIX = parseMix(System.getProperty("loadtest.mix", "70,20,10"));
+
+    /**
+     * Stopped by its own shutdown hook, after the application context has released its connections.
+     */
+    private static EmbeddedPostgres embeddedPostgres;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        String jdbcUrl = System.getProperty("loadtest.jdbc-url");
+        if (jdbcUrl != null) {
+            registry.add("spring.datasource.url", () -> jdbcUrl);
+            return;
+        }
+        embeddedPostgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> embeddedPostgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @Test
+    void usersEndpointsMeetLatencySlo() throws Exception {
+        List<Long> ids = seedUsers();
+        LatencyReport report = new LatencyReport();
+
+        runLoad(ids, report, WARMUP);
+        report.reset();
+        runLoad(ids, report, DURATION);
+
+        report.print(System.out, DURATION);
+        report.writeDistributions(DISTRIBUTIONS);
+        assertEquals(0, report.totalErrors(), "Requests answered with an unexpected status");
+
+        if (Boolean.getBoolean("loadtest.update-baseline")) {
+            try (OutputStream out = Files.newOutputStream(BASELINE)) {
+                report.toBaseline().store(out, "p99/p999 latency baseline in microseconds, see UsersLoadTest");
+            }
+            return;
+        }
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(BASELINE)) {
+            baseline.load(in);
+        }
+        List<String> regressions = report.regressions(baseline, TOLERANCE);
+        assertTrue(regressions.isEmpty(), "Latency SLO regressions:\n" + String.join("\n", regressions));
+    }
+
+    private List<Long> seedUsers() {
+        return userRepository.saveAll(IntStream.range(0, USERS)
+                        .mapToObj(i -> User.builder()
+                                .username("load" + i)
+                                .gender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE)
+                                .birthDate(LocalDate.of(1970, 1, 1).plusDays(i * 17L))
+                                .accountCreation(LocalDateTime.now())
+                                .build())
+                        .toList())
+                .stream()
+                .map(User::getId)
+                .toList();
+    }
+
+    private void runLoad(List<Long> ids, LatencyReport report, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    sendRandomRequest(ids, report);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+    }
+
+    private void sendRandomRequest(List<Long> ids, LatencyReport report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = ids.get(random.nextInt(ids.size()));
+        int roll = random.nextInt(100);
+        if (roll < MIX[0]) {
+            send(report, Endpoint.READ, 200, HttpRequest.newBuilder(uri("/users/" + id)).GET());
+        } else if (roll < MIX[0] + MIX[1]) {
+            String gender = random.nextBoolean() ? Gender.MALE.name() : Gender.FEMALE.name();
+            send(report, Endpoint.WRITE, 200, HttpRequest.newBuilder(uri("/users/" + id))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"gender\":\"" + gender + "\"}")));
+        } else {
+            send(report, Endpoint.NOT_FOUND, 404, HttpRequest.newBuilder(uri("/users/" + -id)).GET());
+        }
+    }
+
+    private void send(LatencyReport report, Endpoint endpoint, int expectedStatus, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            report.record(endpoint, System.nanoTime() - start, response.statusCode() == expectedStatus);
+        } catch (IOException e) {
+            report.record(endpoint, System.nanoTime() - start, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static int[] parseMix(String mix) {
+        int[] percentages = Arrays.stream(mix.split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        if (percentages.length != 3 || Arrays.stream(percentages).sum() != 100) {
+            throw new IllegalArgumentException("loadtest.mix must be three percentages adding up to 100");
+        }
+        return percentages;
+    }
+}
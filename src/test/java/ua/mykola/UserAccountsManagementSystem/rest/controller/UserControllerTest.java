@@ -13,20 +13,30 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import ua.mykola.UserAccountsManagementSystem.exception.NotFoundException;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserField;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.BulkDeleteUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UpdateUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
 import ua.mykola.UserAccountsManagementSystem.service.UserService;
+import ua.mykola.UserAccountsManagementSystem.tenant.TenantContext;
 import ua.mykola.UserAccountsManagementSystem.testEntities.UserUtil;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
-@WebMvcTest
+@WebMvcTest(properties = {
+        "tracing.sampling.ratio=0",
+        "tracing.sampling.trusted-upstreams=127.0.0.1",
+        "tracing.server-timing.enabled=true"
+})
 class UserControllerTest {
 
     @Autowired
@@ -143,7 +153,7 @@ class UserControllerTest {
     void givenId_whenGetById_thenSuccessResponse() throws Exception {
         //given
         UserDto user = UserUtil.getBohnJoPersistedDto();
-        given(userService.getById(any(long.class))).willReturn(user);
+        given(userService.getById(anyLong(), any())).willReturn(user);
 
         //when
         ResultActions result = mockMvc.perform(get("/users/1"));
@@ -154,11 +164,115 @@ class UserControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.username", CoreMatchers.is(user.getUsername())));
     }
 
+    @Test
+    @DisplayName("Getting selected fields of user by id")
+    void givenIdAndFields_whenGetById_thenSuccessResponse() throws Exception {
+        //given
+        UserDto user = UserDto.builder()
+                .username("BohnJo")
+                .age(20)
+                .build();
+        given(userService.getById(1l, Set.of(UserField.USERNAME, UserField.AGE))).willReturn(user);
+
+        //when
+        ResultActions result = mockMvc.perform(get("/users/1").param("fields", "username,age"));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.username", CoreMatchers.is("BohnJo")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.age", CoreMatchers.is(20)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Getting user by id with unknown field")
+    void givenUnknownField_whenGetById_thenErrorResponse() throws Exception {
+        //when
+        ResultActions result = mockMvc.perform(get("/users/1").param("fields", "password"));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("Unknown field: password")));
+    }
+
+    @Test
+    @DisplayName("Getting user by id without any field")
+    void givenEmptyFieldList_whenGetById_thenErrorResponse() throws Exception {
+        //when
+        ResultActions result = mockMvc.perform(get("/users/1").param("fields", ","));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is("At least one field must be specified")));
+    }
+
+    @Test
+    @DisplayName("Getting page of users")
+    void givenPage_whenGetAll_thenSuccessResponse() throws Exception {
+        //given
+        UserDto user = UserUtil.getBohnJoPersistedDto();
+        given(userService.getAll(eq(0), eq(20), any())).willReturn(List.of(user));
+
+        //when
+        ResultActions result = mockMvc.perform(get("/users"));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].username", CoreMatchers.is(user.getUsername())));
+    }
+
+    @Test
+    @DisplayName("Getting users with birthdays this week")
+    void givenWindow_whenGetBirthdays_thenUsersAreReturned() throws Exception {
+        //given
+        UserDto user = UserUtil.getBohnJoPersistedDto();
+        given(userService.getBirthdays(eq(LocalDate.of(2026, 10, 19)), eq(7), eq(18), eq(0l), eq(100), any()))
+                .willReturn(List.of(user));
+
+        //when
+        ResultActions result = mockMvc.perform(get("/users/birthdays")
+                .param("from", "2026-10-19")
+                .param("days", "7")
+                .param("age", "18"));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].username", CoreMatchers.is(user.getUsername())));
+    }
+
+    @Test
+    @DisplayName("Getting user of a tenant")
+    void givenTenantRoute_whenGetById_thenServiceRunsInTenant() throws Exception {
+        //given
+        UserDto user = UserUtil.getBohnJoPersistedDto();
+        given(userService.getById(anyLong(), any()))
+                .willAnswer(invocation -> "acme".equals(TenantContext.current()) ? user : null);
+
+        //when
+        ResultActions result = mockMvc.perform(get("/tenants/acme/users/1"));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.username", CoreMatchers.is(user.getUsername())));
+    }
+
+    @Test
+    @DisplayName("Getting user of an invalid tenant")
+    void givenInvalidTenant_whenGetById_thenErrorResponse() throws Exception {
+        //when
+        ResultActions result = mockMvc.perform(get("/tenants/Not_A_Tenant/users/1"));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isNotFound());
+        verify(userService, never()).getById(anyLong(), any());
+    }
+
     @Test
     @DisplayName("Getting user by non-existent id")
     void givenNonExistentId_whenGetById_thenErrorResponse() throws Exception {
         //given
-        given(userService.getById(any(long.class))).willThrow(new NotFoundException(NOT_FOUND_MESSAGE));
+        given(userService.getById(anyLong(), any())).willThrow(new NotFoundException(NOT_FOUND_MESSAGE));
 
         //when
         ResultActions result = mockMvc.perform(get("/users/101"));
@@ -189,6 +303,70 @@ class UserControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.gender", CoreMatchers.is(updatedUserDto.getGender())));
     }
 
+    @Test
+    @DisplayName("Updating user with sampled trace")
+    public void givenSampledTraceparent_whenUpdateUser_thenServerTimingIsReturned() throws Exception {
+        //given
+        UpdateUserDto userToUpdate = UserUtil.getUpdatedBohnJoDto();
+        given(userService.update(anyLong(), any(UpdateUserDto.class))).willReturn(UserUtil.getUpdatedBohnJoPersistedDto());
+
+        //when
+        ResultActions result = mockMvc.perform(patch("/users/1")
+                .header("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userToUpdate)));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Server-Timing", CoreMatchers.allOf(
+                        CoreMatchers.startsWith("total;dur="),
+                        CoreMatchers.containsString("UserController.update;dur="),
+                        CoreMatchers.containsString("json.binding;dur="),
+                        CoreMatchers.containsString("validation;dur="),
+                        CoreMatchers.containsString("serialization;dur="))));
+    }
+
+    @Test
+    @DisplayName("Updating user with sampled trace from untrusted client")
+    public void givenSampledTraceparentFromUntrustedClient_whenUpdateUser_thenNoServerTimingIsReturned()
+            throws Exception {
+        //given
+        UpdateUserDto userToUpdate = UserUtil.getUpdatedBohnJoDto();
+        given(userService.update(anyLong(), any(UpdateUserDto.class))).willReturn(UserUtil.getUpdatedBohnJoPersistedDto());
+
+        //when
+        ResultActions result = mockMvc.perform(patch("/users/1")
+                .with(request -> {
+                    request.setRemoteAddr("203.0.113.7");
+                    return request;
+                })
+                .header("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userToUpdate)));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist("Server-Timing"));
+    }
+
+    @Test
+    @DisplayName("Updating user with unsampled trace")
+    public void givenUnsampledTraceparent_whenUpdateUser_thenNoServerTimingIsReturned() throws Exception {
+        //given
+        UpdateUserDto userToUpdate = UserUtil.getUpdatedBohnJoDto();
+        given(userService.update(anyLong(), any(UpdateUserDto.class))).willReturn(UserUtil.getUpdatedBohnJoPersistedDto());
+
+        //when
+        ResultActions result = mockMvc.perform(patch("/users/1")
+                .header("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userToUpdate)));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist("Server-Timing"));
+    }
+
     @Test
     @DisplayName("Updating user with a future birth date")
     public void givenUpdateUserDtoWithFutureBirthDate_whenUpdateUser_thenErrorResponse() throws Exception {
@@ -236,4 +414,23 @@ class UserControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(HttpStatus.NOT_FOUND.value())))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(NOT_FOUND_MESSAGE)));
     }
+
+    @Test
+    @DisplayName("Bulk deleting users by ids")
+    void givenIds_whenDeleteAll_thenSuccessResponse() throws Exception {
+        //given
+        BulkDeleteUserDto bulkDeleteUserDto = BulkDeleteUserDto.builder()
+                .ids(List.of(1l, 2l))
+                .build();
+        given(userService.deleteAll(any(BulkDeleteUserDto.class))).willReturn(2);
+
+        //when
+        ResultActions result = mockMvc.perform(post("/users/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkDeleteUserDto)));
+
+        //then
+        result.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string("2 users were deleted"));
+    }
 }
@@ -6,19 +6,36 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ua.mykola.UserAccountsManagementSystem.cache.UserCache;
+import ua.mykola.UserAccountsManagementSystem.entity.Gender;
 import ua.mykola.UserAccountsManagementSystem.entity.User;
 import ua.mykola.UserAccountsManagementSystem.exception.DuplicateException;
 import ua.mykola.UserAccountsManagementSystem.exception.NotFoundException;
 import ua.mykola.UserAccountsManagementSystem.exception.ValidationException;
 import ua.mykola.UserAccountsManagementSystem.repository.UserRepository;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserField;
+import ua.mykola.UserAccountsManagementSystem.rest.dto.BulkDeleteUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UpdateUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
+import ua.mykola.UserAccountsManagementSystem.tenant.TenantContext;
 import ua.mykola.UserAccountsManagementSystem.testEntities.UserUtil;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.Mockito.never;
@@ -29,12 +46,17 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
     private final String DUPLICATED_USERNAME_MESSAGE = "Username exists";
     private final String NOT_FOUND_MESSAGE = "User by id:101 was not found";
     private final String VALIDATION_GENDER_MESSAGE = "Such gender doesn't exist";
+    private final String BULK_DELETE_MESSAGE = "Either ids or filter must be specified";
+    private final String BULK_DELETE_LIMIT_MESSAGE = "At most 10000 ids can be deleted at once";
     private final Long NON_EXISTENT_ID = 101l;
 
     @Test
@@ -58,7 +80,7 @@ class UserServiceImplTest {
     void givenUserWithDuplicatedUsernameToSave_whenSaveUser_thenExceptionIsThrown() {
         //given
         UserDto userToSaveDto = UserUtil.getBohnJoDto();
-        given(userRepository.existsByUsername(any(String.class)))
+        given(userRepository.existsByUsername(eq(TenantContext.DEFAULT), any(String.class)))
                 .willReturn(true);
 
         //when
@@ -70,6 +92,34 @@ class UserServiceImplTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("Creating user in a tenant")
+    void givenTenant_whenSaveUser_thenUsernameIsCheckedWithinTenant() {
+        //given
+        UserDto userToSaveDto = UserUtil.getBohnJoDto();
+
+        //when
+        TenantContext.callAs("acme", () -> userService.save(userToSaveDto));
+
+        //then
+        verify(userRepository, times(1)).existsByUsername("acme", userToSaveDto.getUsername());
+        assertEquals(TenantContext.DEFAULT, TenantContext.current());
+    }
+
+    @Test
+    @DisplayName("Creating user with id of another tenant's user")
+    void givenUserWithForeignId_whenSaveUser_thenNewUserIsCreated() {
+        //given
+        UserDto userToSaveDto = UserUtil.getBohnJoDto();
+        userToSaveDto.setId(1l);
+
+        //when
+        TenantContext.callAs("acme", () -> userService.save(userToSaveDto));
+
+        //then
+        verify(userRepository, times(1)).save(argThat(user -> user.getId() == null));
+    }
+
     @Test
     @DisplayName("Creating user with incorrect gender")
     void givenUserWithIncorrectGenderToSave_whenSaveUser_thenExceptionIsThrown() {
@@ -104,6 +154,7 @@ class UserServiceImplTest {
         //then
         assertNotNull(obtainedUser);
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userCache, times(1)).invalidate(TenantContext.DEFAULT, 1l);
     }
 
     @Test
@@ -143,33 +194,156 @@ class UserServiceImplTest {
     @DisplayName("Getting user by id")
     void givenId_whenGetUserById_thenUserIsReturned() {
         //given
-        Optional<User> user = Optional.of(UserUtil.getBohnJoPersisted());
-        given(userRepository.findById(any(Long.class)))
-                .willReturn(user);
+        given(userCache.generation(TenantContext.DEFAULT, 1l)).willReturn(7l);
+        given(userRepository.findProjectionById(1l, UserField.ALL))
+                .willReturn(Optional.of(UserUtil.getBohnJoProjection()));
 
         //when
-        UserDto obtainedUser = userService.getById(1l);
+        UserDto obtainedUser = userService.getById(1l, UserField.ALL);
 
         //then
         assertNotNull(obtainedUser);
-        verify(userRepository, times(1)).findById(any(Long.class));
+        assertEquals(20, obtainedUser.getAge());
+        verify(userRepository, never()).findById(any(Long.class));
+        verify(userCache, times(1)).putIfUnchanged(TenantContext.DEFAULT, 1l, obtainedUser, 7l);
+    }
+
+    @Test
+    @DisplayName("Getting selected fields of user by id")
+    void givenIdAndFields_whenGetUserById_thenOnlySelectedFieldsAreReturned() {
+        //given
+        Set<UserField> fields = Set.of(UserField.USERNAME, UserField.AGE);
+        given(userRepository.findProjectionById(1l, fields))
+                .willReturn(Optional.of(UserUtil.getBohnJoProjection()));
+
+        //when
+        UserDto obtainedUser = userService.getById(1l, fields);
+
+        //then
+        assertEquals("BohnJo", obtainedUser.getUsername());
+        assertEquals(20, obtainedUser.getAge());
+        assertNull(obtainedUser.getId());
+        assertNull(obtainedUser.getBirthDate());
+        verify(userCache, never()).putIfUnchanged(anyString(), anyLong(), any(UserDto.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("Getting cached user by id")
+    void givenCachedUser_whenGetUserById_thenRepositoryIsNotCalled() {
+        //given
+        UserDto cachedUser = UserUtil.getBohnJoPersistedDto();
+        given(userCache.get(TenantContext.DEFAULT, 1l))
+                .willReturn(Optional.of(cachedUser));
+
+        //when
+        UserDto obtainedUser = userService.getById(1l, Set.of(UserField.USERNAME));
+
+        //then
+        assertEquals(cachedUser.getUsername(), obtainedUser.getUsername());
+        assertNull(obtainedUser.getGender());
+        verify(userRepository, never()).findProjectionById(any(Long.class), any());
     }
 
     @Test
     @DisplayName("Getting non-existent user")
     void givenNonExistentId_whenGetUserById_thenExceptionIsThrown() {
         //given
-        given(userRepository.findById(any(Long.class)))
-                .willReturn(Optional.ofNullable(null));
+        given(userRepository.findProjectionById(NON_EXISTENT_ID, UserField.ALL))
+                .willReturn(Optional.empty());
 
         //when
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> userService.getById(NON_EXISTENT_ID));
+                () -> userService.getById(NON_EXISTENT_ID, UserField.ALL));
 
         //then
         assertEquals(NOT_FOUND_MESSAGE, ex.getMessage());
     }
 
+    @Test
+    @DisplayName("Getting page of users")
+    void givenPage_whenGetAll_thenUsersAreReturned() {
+        //given
+        given(userRepository.findProjections(UserField.ALL, 0, 20))
+                .willReturn(List.of(UserUtil.getBohnJoProjection()));
+
+        //when
+        List<UserDto> obtainedUsers = userService.getAll(0, 20, UserField.ALL);
+
+        //then
+        assertEquals(1, obtainedUsers.size());
+        assertEquals("BohnJo", obtainedUsers.get(0).getUsername());
+    }
+
+    @Test
+    @DisplayName("Getting page of users with too large size")
+    void givenTooLargePageSize_whenGetAll_thenExceptionIsThrown() {
+        //when
+        assertThrows(ValidationException.class,
+                () -> userService.getAll(0, 100_000, UserField.ALL));
+
+        //then
+        verify(userRepository, never()).findProjections(any(), any(int.class), any(int.class));
+    }
+
+    @Test
+    @DisplayName("Getting page of users beyond the largest offset")
+    void givenPageOverflowingOffset_whenGetAll_thenExceptionIsThrown() {
+        //when
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> userService.getAll(3_000_000, 1000, UserField.ALL));
+
+        //then
+        assertEquals("Page is too large", ex.getMessage());
+        verify(userRepository, never()).findProjections(any(), any(int.class), any(int.class));
+    }
+
+    @Test
+    @DisplayName("Getting users turning an age within a birthday window")
+    void givenWindowAndAge_whenGetBirthdays_thenCohortBoundsArePassedToRepository() {
+        //given
+        LocalDate from = LocalDate.of(2026, 10, 19);
+        given(userRepository.streamByBirthMonthDays(anyCollection(), any(), any(), eq(0l)))
+                .willReturn(Stream.of(UserUtil.getBohnJoProjection(), UserUtil.getBohnJoProjection()));
+
+        //when
+        List<UserDto> obtainedUsers = userService.getBirthdays(from, 7, 18, 0l, 1, UserField.ALL);
+
+        //then
+        assertEquals(1, obtainedUsers.size());
+        verify(userRepository, times(1)).streamByBirthMonthDays(
+                eq(Set.of((short) 1019, (short) 1020, (short) 1021, (short) 1022,
+                        (short) 1023, (short) 1024, (short) 1025)),
+                eq(LocalDate.of(2008, 10, 19)), eq(LocalDate.of(2008, 10, 25)), eq(0l));
+    }
+
+    @Test
+    @DisplayName("Getting users turning an age on February 28 of a non-leap year")
+    void givenFebruary28InNonLeapYearAndAge_whenGetBirthdays_thenLeapDayBirthDatesAreIncluded() {
+        //given
+        LocalDate from = LocalDate.of(2026, 2, 28);
+        given(userRepository.streamByBirthMonthDays(anyCollection(), any(), any(), eq(0l)))
+                .willReturn(Stream.empty());
+
+        //when
+        userService.getBirthdays(from, 1, 18, 0l, 20, UserField.ALL);
+
+        //then
+        verify(userRepository, times(1)).streamByBirthMonthDays(
+                eq(Set.of((short) 228, (short) 229)),
+                eq(LocalDate.of(2008, 2, 28)), eq(LocalDate.of(2008, 2, 29)), eq(0l));
+    }
+
+    @Test
+    @DisplayName("Getting birthdays within too long window")
+    void givenTooLongWindow_whenGetBirthdays_thenExceptionIsThrown() {
+        //when
+        assertThrows(ValidationException.class,
+                () -> userService.getBirthdays(null, 60, null, 0l, 20, UserField.ALL));
+
+        //then
+        verify(userRepository, never()).streamByBirthMonthDays(anyCollection(), any(), any(), any(long.class));
+    }
+
     @Test
     @DisplayName("Deleting user by id")
     void givenId_whenDeleteUserById_thenRepositoryIsCalled() {
@@ -181,7 +355,9 @@ class UserServiceImplTest {
         userService.delete(1l);
 
         //then
-        verify(userRepository, times(1)).deleteById(any(Long.class));
+        verify(userRepository, times(1)).markDeletedByIds(anyCollection(), any(LocalDateTime.class));
+        verify(userRepository, never()).deleteById(any(Long.class));
+        verify(userCache, times(1)).invalidate(TenantContext.DEFAULT, 1l);
     }
 
     @Test
@@ -198,4 +374,73 @@ class UserServiceImplTest {
         //then
         assertEquals(NOT_FOUND_MESSAGE, ex.getMessage());
     }
+
+    @Test
+    @DisplayName("Bulk deleting users by ids")
+    void givenIds_whenDeleteAll_thenUsersAreMarkedDeleted() {
+        //given
+        BulkDeleteUserDto bulkDeleteUserDto = BulkDeleteUserDto.builder()
+                .ids(List.of(1l, 2l))
+                .build();
+        given(userRepository.markDeletedByIds(eq(List.of(1l, 2l)), any(LocalDateTime.class)))
+                .willReturn(2);
+
+        //when
+        int deletedCount = userService.deleteAll(bulkDeleteUserDto);
+
+        //then
+        assertEquals(2, deletedCount);
+        verify(userCache, times(1)).invalidateAll(TenantContext.DEFAULT);
+        verify(userCache, never()).invalidate(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Bulk deleting users by filter")
+    void givenFilter_whenDeleteAll_thenUsersAreMarkedDeleted() {
+        //given
+        BulkDeleteUserDto bulkDeleteUserDto = BulkDeleteUserDto.builder()
+                .gender(Gender.MALE.name())
+                .build();
+        given(userRepository.markDeletedByFilter(eq(Gender.MALE), isNull(), isNull(), isNull(),
+                any(LocalDateTime.class)))
+                .willReturn(3);
+
+        //when
+        int deletedCount = userService.deleteAll(bulkDeleteUserDto);
+
+        //then
+        assertEquals(3, deletedCount);
+        verify(userCache, times(1)).invalidateAll(TenantContext.DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Bulk deleting users without ids and filter")
+    void givenEmptyRequest_whenDeleteAll_thenExceptionIsThrown() {
+        //given
+        BulkDeleteUserDto bulkDeleteUserDto = new BulkDeleteUserDto();
+
+        //when
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> userService.deleteAll(bulkDeleteUserDto));
+
+        //then
+        assertEquals(BULK_DELETE_MESSAGE, ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Bulk deleting too many users by ids")
+    void givenTooManyIds_whenDeleteAll_thenExceptionIsThrown() {
+        //given
+        BulkDeleteUserDto bulkDeleteUserDto = BulkDeleteUserDto.builder()
+                .ids(LongStream.rangeClosed(1, 10_001).boxed().toList())
+                .build();
+
+        //when
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> userService.deleteAll(bulkDeleteUserDto));
+
+        //then
+        assertEquals(BULK_DELETE_LIMIT_MESSAGE, ex.getMessage());
+        verify(userRepository, never()).markDeletedByIds(anyCollection(), any(LocalDateTime.class));
+    }
 }
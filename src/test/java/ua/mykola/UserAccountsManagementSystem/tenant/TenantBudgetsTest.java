@@ -0,0 +1,63 @@
+package ua.mykola.UserAccountsManagementSystem.tenant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ua.mykola.UserAccountsManagementSystem.exception.TooManyRequestsException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantBudgetsTest {
+
+    @Test
+    @DisplayName("Exhausting rate budget of one tenant")
+    void givenTenantOverRateBudget_whenAcquire_thenOnlyThatTenantIsRejected() {
+        //given
+        TenantBudgets tenantBudgets = new TenantBudgets(0.001, 10, 5, Duration.ZERO, 10);
+        tenantBudgets.acquire("acme", 10).close();
+
+        //when
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> tenantBudgets.acquire("acme", 1));
+
+        //then
+        assertEquals("Rate budget of tenant acme is exhausted", ex.getMessage());
+        assertDoesNotThrow(() -> tenantBudgets.acquire("globex", 1).close());
+    }
+
+    @Test
+    @DisplayName("Exhausting connection quota of one tenant")
+    void givenTenantHoldingAllConnections_whenAcquire_thenRejectedUntilReleased() {
+        //given
+        TenantBudgets tenantBudgets = new TenantBudgets(0, 0, 1, Duration.ZERO, 10);
+        TenantBudgets.Lease lease = tenantBudgets.acquire("acme", 1);
+
+        //when
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> tenantBudgets.acquire("acme", 1));
+        lease.close();
+
+        //then
+        assertEquals("Connection quota of tenant acme is exhausted", ex.getMessage());
+        assertDoesNotThrow(() -> tenantBudgets.acquire("acme", 1).close());
+    }
+
+    @Test
+    @DisplayName("Requests of many made-up tenants")
+    void givenBusyTenant_whenUnknownTenantsFillTheTable_thenBusyTenantKeepsItsBudget() {
+        //given
+        TenantBudgets tenantBudgets = new TenantBudgets(0.001, 10, 1, Duration.ZERO, 2);
+        TenantBudgets.Lease lease = tenantBudgets.acquire("acme", 10);
+
+        //when
+        tenantBudgets.acquire("made-up-1", 1).close();
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> tenantBudgets.acquire("made-up-2", 1));
+        lease.close();
+
+        //then
+        assertEquals("Too many active tenants", ex.getMessage());
+        assertThrows(TooManyRequestsException.class, () -> tenantBudgets.acquire("acme", 1));
+    }
+}
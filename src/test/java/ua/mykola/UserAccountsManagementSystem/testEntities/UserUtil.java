@@ -2,6 +2,7 @@ package ua.mykola.UserAccountsManagementSystem.testEntities;
 
 import ua.mykola.UserAccountsManagementSystem.entity.Gender;
 import ua.mykola.UserAccountsManagementSystem.entity.User;
+import ua.mykola.UserAccountsManagementSystem.repository.projection.UserProjection;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UpdateUserDto;
 import ua.mykola.UserAccountsManagementSystem.rest.dto.UserDto;
 
@@ -28,6 +29,12 @@ public class UserUtil {
                 .build();
     }
 
+    public static UserProjection getBohnJoProjection() {
+        User user = getBohnJoPersisted();
+        return new UserProjection(user.getId(), user.getUsername(), user.getGender(),
+                user.getBirthDate(), user.getAccountCreation());
+    }
+
     public static UserDto getBohnJoPersistedDto() {
         return UserDto.fromEntity(getBohnJoPersisted());
     }
@@ -0,0 +1,80 @@
+package ua.mykola.UserAccountsManagementSystem.tracing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingTest {
+
+    @Test
+    @DisplayName("Recording nested spans")
+    void givenActiveTrace_whenSpansAreNested_thenParentsAreLinked() {
+        //given
+        Trace trace = Tracing.begin(Trace.newTraceId(), null, "PATCH /users/{id}");
+
+        //when
+        try (Span service = Tracing.startSpan("UserService.update")) {
+            Tracing.inSpan("UserRepository.findById", () -> {
+            });
+        }
+        Tracing.end(trace);
+
+        //then
+        List<SpanData> spans = trace.getFinishedSpans();
+        SpanData repository = spans.get(0);
+        SpanData service = spans.get(1);
+        SpanData root = spans.get(2);
+        assertEquals("UserRepository.findById", repository.name());
+        assertEquals(service.spanId(), repository.parentSpanId());
+        assertEquals(root.spanId(), service.parentSpanId());
+        assertTrue(root.server());
+        assertNull(root.parentSpanId());
+    }
+
+    @Test
+    @DisplayName("Closing parent span with open child")
+    void givenOpenChildSpan_whenParentIsClosed_thenChildIsClosedToo() {
+        //given
+        Trace trace = Tracing.begin(Trace.newTraceId(), null, "GET");
+        Span handler = Tracing.startSpan("UserController.getById");
+        Tracing.startSpan("serialization");
+
+        //when
+        handler.close();
+        Tracing.end(trace);
+
+        //then
+        assertEquals(List.of("serialization", "UserController.getById", "GET"),
+                trace.getFinishedSpans().stream().map(SpanData::name).toList());
+    }
+
+    @Test
+    @DisplayName("Starting span without trace")
+    void givenNoActiveTrace_whenSpanIsStarted_thenNoopSpanIsReturned() {
+        //when
+        Span span = Tracing.startSpan("UserRepository.findById");
+
+        //then
+        assertSame(Span.NOOP, span);
+    }
+
+    @Test
+    @DisplayName("Building Server-Timing header")
+    void givenSpans_whenServerTimingIsBuilt_thenDurationsAreSummedPerName() {
+        //given
+        List<SpanData> spans = List.of(
+                new SpanData("t", "1", null, "GET", 0, 5_000_000, true, Map.of()),
+                new SpanData("t", "2", "1", "UserRepository.findById", 1_000_000, 2_000_000, false, Map.of()),
+                new SpanData("t", "3", "1", "UserRepository.findById", 2_000_000, 2_500_000, false, Map.of()));
+
+        //when
+        String header = TracingFilter.serverTiming(spans);
+
+        //then
+        assertEquals("total;dur=5.000, UserRepository.findById;dur=1.500", header);
+    }
+}